@@ -379,15 +379,71 @@ const DashboardView:React.FC<{ user:User; onLogout:()=>void }>=({ user, onLogout
         const onVis = () => { if (document.visibilityState === "visible") doRefresh(); };
         document.addEventListener("visibilitychange", onVis);
         window.addEventListener("online", doRefresh);
-        const t = setInterval(doRefresh, 60_000);
         return () => {
             window.removeEventListener("focus", doRefresh);
             document.removeEventListener("visibilitychange", onVis);
             window.removeEventListener("online", doRefresh);
-            clearInterval(t);
         };
     }, [semId, filterSubId, filterCats]);
 
+    /** 과제 완료 상태만 바뀐 경우 다시 받지 않고 화면에서 옮김 */
+    function patchAssignState(assignId:number, state:number){
+        setData(prev => {
+            if(!prev) return prev;
+            const all = [...prev.sections.incomplete, ...prev.sections.complete];
+            const target = all.find(a => Number(a.assignId) === assignId);
+            if(!target) return prev;
+            const moved = { ...target, isComplete: state };
+            const rest = all.filter(a => Number(a.assignId) !== assignId);
+            const byDue = (a:Assignment, b:Assignment) =>
+                new Date(a.dueDate).getTime() - new Date(b.dueDate).getTime() || Number(a.assignId) - Number(b.assignId);
+            const next = [...rest, moved].sort(byDue);
+            return { ...prev, sections: {
+                incomplete: next.filter(a => a.isComplete !== 1),
+                complete:   next.filter(a => a.isComplete === 1)
+            }};
+        });
+    }
+
+    function removeAssign(assignId:number){
+        setData(prev => prev && ({ ...prev, sections: {
+            incomplete: prev.sections.incomplete.filter(a => Number(a.assignId) !== assignId),
+            complete:   prev.sections.complete.filter(a => Number(a.assignId) !== assignId)
+        }}));
+    }
+
+    /** 학기 변경 이벤트 구독 (SSE), 주기적으로 다시 받지 않고 변경이 있을 때만 반영 */
+    const silentRefreshRef = React.useRef(silentRefresh);
+    silentRefreshRef.current = silentRefresh;
+    useEffect(() => {
+        if(semId == null) return;
+        const es = new EventSource(`${API_BASE}/semester/${semId}/events`);
+        let timer: ReturnType<typeof setTimeout> | undefined;
+        const refreshSoon = () => {
+            if (timer) clearTimeout(timer);
+            timer = setTimeout(() => silentRefreshRef.current(), 300);
+        };
+        const onState = (e: MessageEvent) => {
+            const ev = JSON.parse(e.data);
+            // 미완료로 되돌린 경우 임박 여부는 서버 계산을 따름
+            if (ev.assignId != null && ev.state !== 0) patchAssignState(Number(ev.assignId), Number(ev.state));
+            else refreshSoon();
+        };
+        const onDeleted = (e: MessageEvent) => {
+            const ev = JSON.parse(e.data);
+            if (ev.assignId != null) removeAssign(Number(ev.assignId));
+            else refreshSoon();
+        };
+        es.addEventListener("ASSIGNMENT_STATE_CHANGED", onState as EventListener);
+        es.addEventListener("ASSIGNMENT_DELETED", onDeleted as EventListener);
+        ["ASSIGNMENT_CREATED", "ASSIGNMENT_UPDATED", "SUBJECT_CREATED", "SUBJECT_DELETED", "resync"]
+            .forEach(name => es.addEventListener(name, refreshSoon));
+        return () => {
+            if (timer) clearTimeout(timer);
+            es.close();
+        };
+    }, [semId]);
+
     const subNameById = useMemo(()=> {
         const map = new Map<number,string>();
         subjects.forEach(s=>map.set(Number(s.subId), s.subName));
@@ -501,13 +557,13 @@ const DashboardView:React.FC<{ user:User; onLogout:()=>void }>=({ user, onLogout
     async function handleDeleteAssign(id:number){
         if(!confirm("과제를 삭제할까요?")) return;
         await deleteAssignment(id);
-        if(data) load(data.dashboard.semId);
+        removeAssign(id);
     }
 
     async function handleToggleComplete(a:Assignment){
         const next = a.isComplete===1 ? 0 : 1;
-        await toggleComplete(a.assignId, next);
-        if(data) load(data.dashboard.semId);
+        const res = await toggleComplete(a.assignId, next);
+        patchAssignState(a.assignId, res?.isComplete ?? next);
     }
 
     function fmt(d:Date){
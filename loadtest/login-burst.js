@@ -0,0 +1,55 @@
+// 학기 초 로그인 직후 대시보드/달력 조회가 몰리는 상황 부하 테스트 (k6)
+//
+// 플랫폼 스레드 : ./gradlew bootRun
+// 가상 스레드   : ./gradlew bootRun --args='--spring.profiles.active=virtual'
+// 실행          : k6 run -e BASE_URL=http://localhost:8080 -e USER_IDS=1,2,3 -e SEM_IDS=1,2,3 (같은 순서로 사용자-학기 짝) loadtest/login-burst.js
+//
+// 두 모드에서 http_req_duration p95/p99, http_req_failed 와
+// /actuator/prometheus 의 hikaricp_connections_pending, http_server_sql_time 을 비교
+//
+// 측정 결과 : 아직 없음 (가상 스레드 모드 추가 시점에는 두 모드 비교를 돌리지 않았음)
+// 돌리면 날짜, 데이터 크기(USER_IDS 수), 풀 크기와 함께 두 모드의 p95/p99, 실패율, pending 최대값을 여기에 적어둘 것
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USER_IDS = (__ENV.USER_IDS || '1').split(',');
+const SEM_IDS = (__ENV.SEM_IDS || '1').split(',');
+
+export const options = {
+    scenarios: {
+        burst: {
+            executor: 'ramping-arrival-rate',
+            startRate: 50,
+            timeUnit: '1s',
+            preAllocatedVUs: 500,
+            maxVUs: 2000,
+            stages: [
+                { target: 500, duration: '30s' },
+                { target: 1500, duration: '60s' },
+                { target: 0, duration: '10s' },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(95)<500'],
+    },
+};
+
+export default function () {
+    const i = Math.floor(Math.random() * USER_IDS.length);
+    const userId = USER_IDS[i];
+    const semId = SEM_IDS[i % SEM_IDS.length];
+
+    const dashboard = http.get(`${BASE_URL}/semester/${semId}/dashboard`, {
+        headers: { 'X-USER-ID': userId },
+        tags: { name: 'dashboard' },
+    });
+    check(dashboard, { 'dashboard 200': (r) => r.status === 200 });
+
+    const calendar = http.get(`${BASE_URL}/semester/${semId}/calendar`, {
+        tags: { name: 'calendar' },
+    });
+    check(calendar, { 'calendar 200/304': (r) => r.status === 200 || r.status === 304 });
+}
@@ -0,0 +1,52 @@
+package com.toy.subkeeper.bench;
+
+import com.toy.subkeeper.DTO.AssignmentDto;
+import com.toy.subkeeper.domain.Assignment;
+import com.toy.subkeeper.domain.Semester;
+import com.toy.subkeeper.domain.Subject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// 과제 엔티티 -> 응답 DTO 변환 (DB 없이 메모리 객체만)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AssignmentDtoBenchmark {
+    private Assignment assignment;
+
+    @Setup
+    public void setUp() {
+        Subject subject = Subject.builder().id(1L).subName("subject").semester(new Semester("2025-1", null)).build();
+        assignment = Assignment.builder()
+                .id(1L)
+                .assignName("assignment")
+                .dueDate(new Date())
+                .category(0)
+                .isComplete(0)
+                .subject(subject)
+                .build();
+    }
+
+    @Benchmark
+    public AssignmentDto.AssignmentCreateResDto createResDto() {
+        return AssignmentDto.AssignmentCreateResDto.from(assignment);
+    }
+
+    @Benchmark
+    public AssignmentDto.AssignmentUpdateResDto updateResDto() {
+        return AssignmentDto.AssignmentUpdateResDto.from(assignment);
+    }
+
+    @Benchmark
+    public AssignmentDto.AssignmentStateUpdateResDto stateUpdateResDto() {
+        return AssignmentDto.AssignmentStateUpdateResDto.from(assignment);
+    }
+}
@@ -0,0 +1,128 @@
+package com.toy.subkeeper.bench;
+
+import com.toy.subkeeper.SubkeeperApplication;
+import com.toy.subkeeper.service.AssignmentStatService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 벤치마크 공용 상태
+ * 내장 H2(MySQL 모드) 위에 스프링 컨텍스트를 띄우고, 파라미터만큼 사용자/학기/과목/과제를 채움
+ * 과제 마감일은 오늘 기준 -30일 ~ +60일에 고르게 퍼뜨리고, 시드를 고정해 매번 같은 데이터를 만듦
+ */
+@State(Scope.Benchmark)
+public class BenchContext {
+    @Param("50")
+    public int users;
+
+    @Param("4")
+    public int semestersPerUser;
+
+    @Param("6")
+    public int subjectsPerSemester;
+
+    @Param("20")
+    public int assignmentsPerSubject;
+
+    // 임박 상태 저장 모드 / 계산 모드 비교
+    @Param({"false", "true"})
+    public String derivedDueSoon;
+
+    public ConfigurableApplicationContext context;
+    public final List<Long> userIds = new ArrayList<>();
+    public final List<Long> semIds = new ArrayList<>();
+
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SubkeeperApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.open-in-view=false",
+                        "google.client.id=bench",
+                        "google.auth.refresh-check-millis=3600000",
+                        "assignment.due-soon.derived=" + derivedDueSoon,
+                        "logging.level.root=WARN")
+                .run();
+        seed(context.getBean(JdbcTemplate.class));
+        // JDBC 로 직접 넣은 과제는 통계 카운터를 거치지 않으므로 (시작 시 재계산은 seed 전에 끝남) 한 번 맞춤
+        context.getBean(AssignmentStatService.class).reconcileAll();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    // 호출마다 다른 사용자/학기를 돌려가며 사용 (한 행만 반복 조회하는 것 방지)
+    public Long nextUserId() {
+        return userIds.get(Math.floorMod(cursor.getAndIncrement(), userIds.size()));
+    }
+
+    public Long nextSemId() {
+        return semIds.get(Math.floorMod(cursor.getAndIncrement(), semIds.size()));
+    }
+
+    private void seed(JdbcTemplate jdbc) {
+        Random random = new Random(42);
+        long now = System.currentTimeMillis();
+        long day = 24L * 60 * 60 * 1000;
+
+        List<Object[]> userRows = new ArrayList<>();
+        List<Object[]> semRows = new ArrayList<>();
+        List<Object[]> subRows = new ArrayList<>();
+        List<Object[]> assignRows = new ArrayList<>();
+
+        long semId = 0, subId = 0, assignId = 0;
+        for (long userId = 1; userId <= users; userId++) {
+            userRows.add(new Object[]{userId, "user" + userId + "@bench.local", "user" + userId});
+            userIds.add(userId);
+
+            for (int s = 0; s < semestersPerUser; s++) {
+                semId++;
+                semRows.add(new Object[]{semId, "2025-" + (s + 1), userId});
+                semIds.add(semId);
+
+                for (int j = 0; j < subjectsPerSemester; j++) {
+                    subId++;
+                    subRows.add(new Object[]{subId, "subject" + j, semId});
+
+                    for (int k = 0; k < assignmentsPerSubject; k++) {
+                        assignId++;
+                        long due = now + (random.nextInt(90) - 30) * day + random.nextInt((int) day);
+                        int state = random.nextInt(4) == 0 ? 1 : 0;
+                        assignRows.add(new Object[]{assignId, "assignment" + k, new Timestamp(due), random.nextInt(3), state, subId, semId});
+                    }
+                }
+            }
+        }
+
+        jdbc.batchUpdate("insert into user (id, email, user_name) values (?, ?, ?)", userRows);
+        jdbc.batchUpdate("insert into semester (id, sem_name, user_id, revision) values (?, ?, ?, 0)", semRows);
+        jdbc.batchUpdate("insert into subject (id, sub_name, sem_id) values (?, ?, ?)", subRows);
+        jdbc.batchUpdate("insert into assignment (id, assign_name, due_date, category, is_complete, sub_id, sem_id) values (?, ?, ?, ?, ?, ?, ?)", assignRows);
+    }
+}
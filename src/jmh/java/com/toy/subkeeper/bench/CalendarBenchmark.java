@@ -0,0 +1,29 @@
+package com.toy.subkeeper.bench;
+
+import com.toy.subkeeper.DTO.CalendarDto;
+import com.toy.subkeeper.service.SemesterService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// 달력 조회 (학기 전체, 한 달 기간 첫 페이지)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CalendarBenchmark {
+
+    @Benchmark
+    public CalendarDto.CalendarItemList calendarAll(BenchContext ctx) {
+        return ctx.bean(SemesterService.class).getCalendarItems(ctx.nextSemId());
+    }
+
+    @Benchmark
+    public CalendarDto.CalendarItemList calendarMonth(BenchContext ctx) {
+        LocalDate first = LocalDate.now().withDayOfMonth(1);
+        return ctx.bean(SemesterService.class)
+                .getCalendarItems(ctx.nextSemId(), first, first.plusMonths(1), null, null);
+    }
+}
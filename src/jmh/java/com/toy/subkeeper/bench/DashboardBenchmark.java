@@ -0,0 +1,29 @@
+package com.toy.subkeeper.bench;
+
+import com.toy.subkeeper.DTO.DashboardDto;
+import com.toy.subkeeper.cache.DashboardCache;
+import com.toy.subkeeper.service.SemesterService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+// 대시보드 조회 (캐시 미스 = 쿼리 4개(학기 목록, 사이드바 배지, 과목, 과제) + 조립, 캐시 히트)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DashboardBenchmark {
+
+    @Benchmark
+    public DashboardDto.DashboardViewDto dashboardUncached(BenchContext ctx) {
+        Long userId = ctx.nextUserId();
+        ctx.bean(DashboardCache.class).evictUser(userId);
+        return ctx.bean(SemesterService.class).getDashboardView(userId, null, null, null);
+    }
+
+    @Benchmark
+    public DashboardDto.DashboardViewDto dashboardCached(BenchContext ctx) {
+        return ctx.bean(SemesterService.class).getDashboardView(ctx.nextUserId(), null, null, null);
+    }
+}
@@ -0,0 +1,75 @@
+package com.toy.subkeeper.bench;
+
+import com.toy.subkeeper.domain.Semester;
+import com.toy.subkeeper.repository.SemesterRepo;
+import com.toy.subkeeper.service.SemesterService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 학기 삭제 비교 (매 호출 전에 과목/과제가 달린 학기를 새로 만듦)
+ * cascade : semesterRepo.delete (과목/과제를 불러와 한 행씩 삭제)
+ * bulk    : SemesterService.deleteSemester (과제 -> 과목 -> 학기 DELETE 세 번)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DeleteBenchmark {
+    @Param("10")
+    public int subjects;
+
+    @Param("50")
+    public int assignmentsPerSubject;
+
+    private long nextId = 10_000_000L;
+    private Long semId;
+
+    @Setup(Level.Invocation)
+    public void createSemester(BenchContext ctx) {
+        JdbcTemplate jdbc = ctx.bean(JdbcTemplate.class);
+        semId = nextId++;
+        jdbc.update("insert into semester (id, sem_name, user_id, revision) values (?, ?, ?, 0)", semId, "delete-" + semId, ctx.userIds.get(0));
+
+        List<Object[]> subRows = new ArrayList<>();
+        List<Object[]> assignRows = new ArrayList<>();
+        Timestamp due = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < subjects; i++) {
+            long subId = nextId++;
+            subRows.add(new Object[]{subId, "subject" + i, semId});
+            for (int k = 0; k < assignmentsPerSubject; k++) {
+                assignRows.add(new Object[]{nextId++, "assignment" + k, due, 0, 0, subId, semId});
+            }
+        }
+        jdbc.batchUpdate("insert into subject (id, sub_name, sem_id) values (?, ?, ?)", subRows);
+        jdbc.batchUpdate("insert into assignment (id, assign_name, due_date, category, is_complete, sub_id, sem_id) values (?, ?, ?, ?, ?, ?, ?)", assignRows);
+    }
+
+    @Benchmark
+    public void cascade(BenchContext ctx) {
+        SemesterRepo semesterRepo = ctx.bean(SemesterRepo.class);
+        new TransactionTemplate(ctx.bean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            Semester semester = semesterRepo.findById(semId).orElseThrow();
+            semesterRepo.delete(semester);
+        });
+    }
+
+    @Benchmark
+    public void bulk(BenchContext ctx) {
+        ctx.bean(SemesterService.class).deleteSemester(semId);
+    }
+}
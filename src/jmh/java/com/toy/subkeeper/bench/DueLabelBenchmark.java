@@ -0,0 +1,60 @@
+package com.toy.subkeeper.bench;
+
+import com.toy.subkeeper.util.KstTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.TextStyle;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마감일 라벨 ('AUG 21st') 변환 비교
+ * zonedDateTime : 예전 방식 (매번 ZoneId 조회, ZonedDateTime 생성, 문자열 조합)
+ * epochDayTable : KstTime 라벨 표 조회
+ * 할당량은 ./gradlew jmh -PjmhIncludes=DueLabel 에 -prof gc 를 붙여 gc.alloc.rate.norm 으로 확인
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DueLabelBenchmark {
+    private final Date[] dates = new Date[1024];
+    private int i;
+
+    @Setup
+    public void setUp() {
+        long now = System.currentTimeMillis();
+        for (int k = 0; k < dates.length; k++) {
+            dates[k] = new Date(now + k * 3_600_000L * 7);
+        }
+    }
+
+    @Benchmark
+    public String zonedDateTime() {
+        Date dueDate = dates[i++ & (dates.length - 1)];
+        ZonedDateTime zdt = Instant.ofEpochMilli(dueDate.getTime()).atZone(ZoneId.of("Asia/Seoul"));
+        int day = zdt.getDayOfMonth();
+        String suffix = (day >= 11 && day <= 13) ? "th" : switch (day % 10) {
+            case 1 -> "st";
+            case 2 -> "nd";
+            case 3 -> "rd";
+            default -> "th";
+        };
+        String mon = zdt.getMonth().getDisplayName(TextStyle.SHORT, Locale.ENGLISH).toUpperCase();
+        return mon + " " + day + suffix;
+    }
+
+    @Benchmark
+    public String epochDayTable() {
+        return KstTime.dueLabel(dates[i++ & (dates.length - 1)].getTime());
+    }
+}
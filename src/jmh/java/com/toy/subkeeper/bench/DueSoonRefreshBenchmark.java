@@ -0,0 +1,31 @@
+package com.toy.subkeeper.bench;
+
+import com.toy.subkeeper.service.AssignmentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+// 일일 임박 상태 리프레시 (매 호출 전에 임박(2)을 미완료(0)로 되돌려 같은 양을 갱신하게 함)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DueSoonRefreshBenchmark {
+
+    @Setup(Level.Invocation)
+    public void resetStates(BenchContext ctx) {
+        ctx.bean(JdbcTemplate.class).update("update assignment set is_complete = 0 where is_complete = 2");
+    }
+
+    @Benchmark
+    public int refreshZeroToTwo(BenchContext ctx) {
+        return ctx.bean(AssignmentService.class).refreshZeroToTwoForDueSoon();
+    }
+}
@@ -0,0 +1,107 @@
+package com.toy.subkeeper.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.toy.subkeeper.DTO.CompactDto;
+import com.toy.subkeeper.DTO.DashboardDto;
+import com.toy.subkeeper.util.KstTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 대시보드 응답 직렬화 비교 (DB 없이 메모리 DTO 만)
+ * standard : 기존 DashboardViewDto, compact : CompactDto.Dashboard (변환 포함)
+ * blackbird 파라미터로 Jackson 모듈 유무 비교
+ * 응답 크기(원본/gzip)는 setup 에서 한 번 출력 -> ./gradlew jmh -PjmhIncludes=Payload
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayloadBenchmark {
+    @Param({"50", "500"})
+    public int assignments;
+
+    @Param({"false", "true"})
+    public boolean blackbird;
+
+    private ObjectMapper objectMapper;
+    private DashboardDto.DashboardViewDto view;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Spring Boot 기본 설정과 같게 (날짜는 ISO 문자열)
+        objectMapper = new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (blackbird) objectMapper.registerModule(new BlackbirdModule());
+
+        Random random = new Random(42);
+        long now = System.currentTimeMillis();
+        int subjects = 8;
+        List<DashboardDto.DashboardDtoBuilder.SubjectListDto> subjectList = new ArrayList<>();
+        for (long s = 1; s <= subjects; s++) {
+            subjectList.add(new DashboardDto.DashboardDtoBuilder.SubjectListDto(s, "subject" + s));
+        }
+        List<DashboardDto.DashboardDtoBuilder.AssignmentListDto> incomplete = new ArrayList<>();
+        List<DashboardDto.DashboardDtoBuilder.AssignmentListDto> complete = new ArrayList<>();
+        for (long id = 1; id <= assignments; id++) {
+            Date due = new Date(now + (random.nextInt(90) - 30) * KstTime.DAY_MILLIS);
+            int state = random.nextInt(4) == 0 ? 1 : 0;
+            DashboardDto.DashboardDtoBuilder.AssignmentListDto dto = DashboardDto.DashboardDtoBuilder.AssignmentListDto.builder()
+                    .assignId(id)
+                    .assignName("assignment" + id)
+                    .dueDate(due)
+                    .category(random.nextInt(3))
+                    .isComplete(state)
+                    .subId(1L + random.nextInt(subjects))
+                    .dueLabel(KstTime.dueLabel(due.getTime()))
+                    .build();
+            (state == 1 ? complete : incomplete).add(dto);
+        }
+        view = DashboardDto.DashboardViewDto.builder()
+                .dashboard(DashboardDto.DashboardDtoBuilder.builder()
+                        .userId(1L).userName("user").semId(1L).semName("2025-2")
+                        .subjectList(subjectList)
+                        .build())
+                .semesters(List.of(new DashboardDto.DashboardViewDto.SemesterMenuItemDto(1L, "2025-2", true, 12, 1)))
+                .sections(new DashboardDto.DashboardViewDto.AssignmentSections(incomplete, complete))
+                .build();
+
+        byte[] standardBytes = standard();
+        byte[] compactBytes = compact();
+        System.out.printf("%n[payload] assignments=%d standard=%dB (gzip %dB), compact=%dB (gzip %dB)%n",
+                assignments, standardBytes.length, gzip(standardBytes), compactBytes.length, gzip(compactBytes));
+    }
+
+    @Benchmark
+    public byte[] standard() throws IOException {
+        return objectMapper.writeValueAsBytes(view);
+    }
+
+    @Benchmark
+    public byte[] compact() throws IOException {
+        return objectMapper.writeValueAsBytes(CompactDto.Dashboard.from(view));
+    }
+
+    private static int gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(bytes);
+        }
+        return out.size();
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.validation.constraints.*;
 import lombok.*;
 
 import java.util.Date;
+import java.util.List;
 
 public class AssignmentDto {
     @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
@@ -27,6 +28,19 @@ public class AssignmentDto {
         private Long subId;
     }
 
+    // 과제 일괄 생성, 과목별 경로에서는 항목의 subId 를 무시
+    @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class AssignmentBulkCreateReqDto {
+        @NotEmpty(message = "과제 목록 필수")
+        private List<AssignmentCreateReqDto> items;
+    }
+
+    @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class AssignmentBulkCreateResDto {
+        private int count;
+        private List<AssignmentCreateResDto> items;
+    }
+
     @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
     public static class AssignmentCreateResDto {
         private Long assignId;
@@ -38,6 +52,11 @@ public class AssignmentDto {
         private int isComplete;
 
         public static AssignmentCreateResDto from(Assignment assignment) {
+            return from(assignment, assignment.getIsComplete());
+        }
+
+        // isComplete : 응답 시점의 상태 (계산 모드면 임박 여부가 반영된 값)
+        public static AssignmentCreateResDto from(Assignment assignment, int isComplete) {
             return AssignmentCreateResDto.builder()
                     .assignId(assignment.getId())
                     .assignName(assignment.getAssignName())
@@ -45,7 +64,7 @@ public class AssignmentDto {
                     .category(assignment.getCategory())
                     .subId(assignment.getSubject().getId())
                     .subName(assignment.getSubject().getSubName())
-                    .isComplete(assignment.getIsComplete())
+                    .isComplete(isComplete)
                     .build();
         } // subName 을 꺼내기 위함
     }
@@ -79,13 +98,17 @@ public class AssignmentDto {
         private int isComplete;
 
         public static AssignmentUpdateResDto from(Assignment assignment) {
+            return from(assignment, assignment.getIsComplete());
+        }
+
+        public static AssignmentUpdateResDto from(Assignment assignment, int isComplete) {
             return AssignmentUpdateResDto.builder()
                     .assignName(assignment.getAssignName())
                     .dueDate(assignment.getDueDate())
                     .category(assignment.getCategory())
                     .subId(assignment.getSubject().getId())
                     .subName(assignment.getSubject().getSubName())
-                    .isComplete(assignment.getIsComplete())
+                    .isComplete(isComplete)
                     .build();
         } // subName 을 꺼내기 위함
     }
@@ -98,6 +121,29 @@ public class AssignmentDto {
         private int isComplete;
     }
 
+    // 완료 상태 일괄 변경, 같은 과제가 여러 번 있으면 마지막 값으로
+    @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class AssignmentBulkStateUpdateReqDto {
+        @NotEmpty(message = "변경할 과제 목록 필수")
+        private List<AssignmentStateUpdateItem> items;
+    }
+
+    @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class AssignmentStateUpdateItem {
+        @NotNull(message = "과제 ID 필수")
+        private Long assignId;
+
+        @Min(0)
+        @Max(1)
+        private int isComplete;
+    }
+
+    @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class AssignmentBulkStateUpdateResDto {
+        private List<AssignmentStateUpdateResDto> updated;
+        private List<Long> notFound; // 없는 과제 id
+    }
+
     @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
     public static class AssignmentStateUpdateResDto {
         private Long assignId;
@@ -105,9 +151,13 @@ public class AssignmentDto {
         private Date dueDate;
 
         public static AssignmentStateUpdateResDto from(Assignment assignment){
+            return from(assignment, assignment.getIsComplete());
+        }
+
+        public static AssignmentStateUpdateResDto from(Assignment assignment, int isComplete){
             return AssignmentStateUpdateResDto.builder()
                     .assignId(assignment.getId())
-                    .isComplete(assignment.getIsComplete())
+                    .isComplete(isComplete)
                     .dueDate(assignment.getDueDate())
                     .build();
         }
@@ -1,5 +1,6 @@
 package com.toy.subkeeper.DTO;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 
 import java.util.Date;
@@ -8,6 +9,9 @@ import java.util.List;
 public class CalendarDto {
     @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
     public static class CalendarItem {
+        private Long assignId;
+        @JsonIgnore
+        private Long subId; // compact 형식에서 과목 사전을 만들 때만 씀, 기본 응답에는 넣지 않음
         private String subName;
         private Date dueDate;
         private String assignName;
@@ -18,5 +22,25 @@ public class CalendarDto {
     public static class CalendarItemList {
         private String userName;
         private List<CalendarItem> items;
+
+        // 다음 증분 동기화에 넘길 토큰
+        private Long syncToken;
+
+        // 기간 조회 시 다음 페이지 커서, 마지막 페이지면 null
+        private String nextCursor;
+    }
+
+    @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class CalendarDelta {
+        // true 면 items 로 전체 교체 (첫 동기화, 토큰이 정리된 경우)
+        private boolean full;
+        private Long syncToken;
+
+        private String userName;
+        private List<CalendarItem> items;
+
+        private List<CalendarItem> created;
+        private List<CalendarItem> updated;
+        private List<Long> deleted;
     }
 }
@@ -0,0 +1,115 @@
+package com.toy.subkeeper.DTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.toy.subkeeper.util.KstTime;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대시보드/달력의 가벼운 응답 형식 (format=compact 일 때만)
+ * 과목은 subjects 에 한 번만 두고 과제는 subId 로 참조, 마감일은 KST epoch day + 그날의 분,
+ * dueLabel 처럼 클라이언트가 만들 수 있는 값과 null 은 보내지 않음
+ */
+public class CompactDto {
+    @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Item {
+        private Long id;
+        private Long subId;
+        private String name;
+        private Integer category;
+        private Integer state; // 달력은 없음
+        private long dueDay;   // 1970-01-01(KST) = 0
+        private int dueMinute; // 0 ~ 1439
+
+        private static Item of(Long id, Long subId, String name, Integer category, Integer state, Date dueDate) {
+            long millis = dueDate.getTime();
+            return Item.builder()
+                    .id(id)
+                    .subId(subId)
+                    .name(name)
+                    .category(category)
+                    .state(state)
+                    .dueDay(KstTime.epochDay(millis))
+                    .dueMinute(KstTime.minuteOfDay(millis))
+                    .build();
+        }
+    }
+
+    @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class SubjectEntry {
+        private Long id;
+        private String name;
+    }
+
+    @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Dashboard {
+        private Long userId;
+        private String userName;
+        private Long semId;
+        private String semName;
+
+        private List<SubjectEntry> subjects;
+        private List<DashboardDto.DashboardViewDto.SemesterMenuItemDto> semesters;
+        private List<Item> incomplete;
+        private List<Item> complete;
+
+        public static Dashboard from(DashboardDto.DashboardViewDto view) {
+            DashboardDto.DashboardDtoBuilder d = view.getDashboard();
+            return Dashboard.builder()
+                    .userId(d.getUserId())
+                    .userName(d.getUserName())
+                    .semId(d.getSemId())
+                    .semName(d.getSemName())
+                    .subjects(d.getSubjectList().stream()
+                            .map(s -> new SubjectEntry(s.getSubId(), s.getSubName()))
+                            .toList())
+                    .semesters(view.getSemesters())
+                    .incomplete(toItems(view.getSections().getIncomplete()))
+                    .complete(toItems(view.getSections().getComplete()))
+                    .build();
+        }
+
+        private static List<Item> toItems(List<DashboardDto.DashboardDtoBuilder.AssignmentListDto> list) {
+            List<Item> items = new ArrayList<>(list.size());
+            for (DashboardDto.DashboardDtoBuilder.AssignmentListDto a : list) {
+                items.add(Item.of(a.getAssignId(), a.getSubId(), a.getAssignName(), a.getCategory(), a.getIsComplete(), a.getDueDate()));
+            }
+            return items;
+        }
+    }
+
+    @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Calendar {
+        private String userName;
+        private List<SubjectEntry> subjects; // 이 응답의 항목이 참조하는 과목만
+        private List<Item> items;
+        private Long syncToken;
+        private String nextCursor;
+
+        public static Calendar from(CalendarDto.CalendarItemList list) {
+            Map<Long, String> used = new LinkedHashMap<>();
+            List<Item> items = new ArrayList<>(list.getItems().size());
+            for (CalendarDto.CalendarItem c : list.getItems()) {
+                used.putIfAbsent(c.getSubId(), c.getSubName());
+                items.add(Item.of(c.getAssignId(), c.getSubId(), c.getAssignName(), c.getCategory(), null, c.getDueDate()));
+            }
+            return Calendar.builder()
+                    .userName(list.getUserName())
+                    .subjects(used.entrySet().stream()
+                            .map(e -> new SubjectEntry(e.getKey(), e.getValue()))
+                            .toList())
+                    .items(items)
+                    .syncToken(list.getSyncToken())
+                    .nextCursor(list.getNextCursor())
+                    .build();
+        }
+    }
+}
@@ -48,6 +48,10 @@ public class DashboardDto {
             private String semName;
 
             private boolean current; // 현재 선택된 학기인가
+
+            // 사이드바 배지 (통계 카운터 기준)
+            private long incomplete; // 미완료 과제 수
+            private long overdue;    // 그중 마감일이 지난 과제 수
         }
 
         @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
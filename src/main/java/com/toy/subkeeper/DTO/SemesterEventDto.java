@@ -0,0 +1,40 @@
+package com.toy.subkeeper.DTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.toy.subkeeper.event.DomainEvent;
+import lombok.*;
+
+import java.util.Date;
+
+public class SemesterEventDto {
+    // 학기 이벤트 스트림(SSE)으로 보내는 변경 한 건, 해당 없는 값은 빼고 보냄
+    @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ChangeEvent {
+        private String type; // DomainEventType 이름
+        private Long subId;
+        private Long prevSubId;
+        private Long assignId;
+        private Integer state;
+        private Integer count; // 과제 id 가 없는 일괄 작업이면 과목 단위 개수 (클라이언트는 해당 과목을 다시 조회)
+        private String name;
+        private Date dueDate;
+        private Integer category;
+        private long at;
+
+        public static ChangeEvent from(DomainEvent e) {
+            return ChangeEvent.builder()
+                    .type(e.getType().name())
+                    .subId(e.getSubId())
+                    .prevSubId(e.getPrevSubId())
+                    .assignId(e.getAssignId())
+                    .state(e.getState())
+                    .count(e.getAssignId() == null ? e.getCount() : null)
+                    .name(e.getName())
+                    .dueDate(e.getDueDate())
+                    .category(e.getCategory())
+                    .at(e.getAt())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.toy.subkeeper.DTO;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class StatsDto {
+    @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class SemesterStats {
+        private Long semId;
+        private int total;
+        private int completed;
+        private int overdue; // 마감일(KST)이 오늘 이전인 미완료 과제
+        private double completionRate;
+
+        private List<SubjectStat> subjects;
+        private List<CategoryStat> categories;
+        private List<WeekStat> weeks; // 주(월요일 시작)별 마감 과제 수, 과제가 있는 주만
+    }
+
+    @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class SubjectStat {
+        private Long subId;
+        private String subName;
+        private int total;
+        private int completed;
+        private int overdue;
+        private double completionRate;
+    }
+
+    @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class CategoryStat {
+        private int category; // 0 : 과제, 1 : 강의, 2 : 할 일
+        private int total;
+        private int completed;
+    }
+
+    @Getter @Setter @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class WeekStat {
+        private LocalDate weekStart;
+        private int total;
+        private int completed;
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+// 기본 설정(JDBC batch, 압축, actuator)은 config.DefaultPropertiesPostProcessor 가 모든 컨텍스트에 붙임
 @SpringBootApplication
 @EnableScheduling // 매일 자정에 과제 완료 상태를 갱신하기 위함
 public class SubkeeperApplication {
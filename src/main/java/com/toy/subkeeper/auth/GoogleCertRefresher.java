@@ -0,0 +1,56 @@
+package com.toy.subkeeper.auth;
+
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+/**
+ * 구글 공개키를 만료 전에 백그라운드에서 미리 갱신
+ * GooglePublicKeysManager 는 만료된 뒤 처음 검증하는 요청에서 동기로 다시 받아오므로,
+ * 만료 refresh-ahead 전에 갱신해 두면 로그인 요청이 구글 인증서 서버를 기다리지 않음
+ * 갱신에 실패하면 기존 키를 그대로 쓰고 다음 주기에 다시 시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+
+public class GoogleCertRefresher {
+    private final GooglePublicKeysManager googlePublicKeysManager;
+
+    // 만료까지 이 시간보다 적게 남으면 갱신
+    @Value("${google.auth.refresh-ahead-millis:600000}")
+    private long refreshAheadMillis;
+
+    // 서버 시작 직후 첫 로그인이 키를 받아오지 않도록 미리 받아둠
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${google.auth.refresh-check-millis:60000}",
+            initialDelayString = "${google.auth.refresh-check-millis:60000}")
+    public void refreshBeforeExpiry() {
+        long remaining = googlePublicKeysManager.getExpirationTimeMilliseconds() - System.currentTimeMillis();
+        if (remaining < refreshAheadMillis) {
+            refresh();
+        }
+    }
+
+    private void refresh() {
+        try {
+            googlePublicKeysManager.refresh();
+            log.info("구글 공개키 갱신 완료 : {}개, 만료 {}",
+                    googlePublicKeysManager.getPublicKeys().size(),
+                    new Date(googlePublicKeysManager.getExpirationTimeMilliseconds()));
+        } catch (Exception e) {
+            log.warn("구글 공개키 갱신 실패, 기존 키 유지", e);
+        }
+    }
+}
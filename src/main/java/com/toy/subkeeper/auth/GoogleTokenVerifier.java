@@ -0,0 +1,93 @@
+package com.toy.subkeeper.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구글 ID 토큰 검증 + 검증 결과 캐시
+ * 같은 토큰이 짧은 시간 안에 다시 들어오면(재시도, 새로고침) 서명 검증을 건너뜀
+ * 토큰 원문 대신 SHA-256 해시를 키로 쓰고, 결과는 토큰 만료 시각과 ttl 중 빠른 쪽까지만 보관
+ */
+@Component
+public class GoogleTokenVerifier {
+    private final GoogleIdTokenVerifier verifier;
+    private final Cache<String, VerifiedUser> verified;
+
+    public GoogleTokenVerifier(GoogleIdTokenVerifier verifier,
+                               @Value("${google.auth.verified-cache.ttl-seconds:300}") long ttlSeconds,
+                               @Value("${google.auth.verified-cache.max-size:10000}") long maxSize) {
+        this.verifier = verifier;
+        long ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedUser>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedUser value, long currentTime) {
+                        long untilExp = TimeUnit.MILLISECONDS.toNanos(value.getExpiresAt() - System.currentTimeMillis());
+                        return Math.max(0, Math.min(ttlNanos, untilExp));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedUser value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedUser value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Getter @AllArgsConstructor
+    public static class VerifiedUser {
+        private final String email;
+        private final String name;
+        private final long expiresAt; // 토큰 만료 시각 (ms)
+    }
+
+    // 유효하지 않은 토큰이면 null
+    public VerifiedUser verify(String idTokenString) throws GeneralSecurityException, IOException {
+        String key = sha256(idTokenString);
+        VerifiedUser cached = verified.getIfPresent(key);
+        if (cached != null && cached.getExpiresAt() > System.currentTimeMillis()) {
+            return cached;
+        }
+
+        GoogleIdToken idToken = verifier.verify(idTokenString);
+        if (idToken == null) return null;
+
+        GoogleIdToken.Payload payload = idToken.getPayload();
+        VerifiedUser user = new VerifiedUser(
+                payload.getEmail(),
+                (String) payload.get("name"),
+                payload.getExpirationTimeSeconds() * 1000L);
+        verified.put(key, user);
+        return user;
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.toy.subkeeper.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.toy.subkeeper.DTO.DashboardDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 대시보드 응답 캐시 (userId, semId, subId, categories)
+ * 크기 기준으로 오래 안 쓴 항목부터 밀어내고, 쓰기 경로에서 정확히 필요한 항목만 지움
+ * 학기/과목으로 지울 때는 캐시된 응답 안의 실제 학기 id 와 과목 목록을 기준으로 찾음
+ * 캐시 전체를 훑지 않도록 저장할 때 사용자/학기/과목 id -> 키 역색인을 같이 만들고, 지울 때는 색인만 봄
+ * 조회 도중의 무효화도 id 별로 판단해서, 다른 사용자/학기의 쓰기 때문에 조회 결과를 버리지 않음
+ */
+@Component
+public class DashboardCache implements MeterBinder {
+    private final Cache<Key, DashboardDto.DashboardViewDto> cache;
+
+    // 무효화 순번 (무효화마다 증가), 조회 시작 시 읽어두고 저장할 때 아래 stamp 와 비교
+    private final AtomicLong generation = new AtomicLong();
+
+    // id -> 마지막으로 무효화된 순번, 조회 결과에 들어간 id 중 하나라도 조회 시작 이후에 무효화됐으면 저장하지 않음
+    private final Map<Long, Long> userStamps = new ConcurrentHashMap<>();
+    private final Map<Long, Long> semesterStamps = new ConcurrentHashMap<>();
+    private final Map<Long, Long> subjectStamps = new ConcurrentHashMap<>();
+    private final Map<Long, Long> menuSemesterStamps = new ConcurrentHashMap<>();
+    private final AtomicLong allStamp = new AtomicLong(-1); // evictAll
+    // 이 순번 이하의 stamp 는 정리돼서 모름, 그 전에 시작한 조회는 저장하지 않음
+    private volatile long forgottenUpTo = -1;
+
+    // id -> 그 id 가 들어간 응답의 키
+    private final Map<Long, Set<Key>> byUser = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Key>> bySemester = new ConcurrentHashMap<>();     // 응답의 실제 학기
+    private final Map<Long, Set<Key>> bySubject = new ConcurrentHashMap<>();      // 응답의 과목 목록
+    private final Map<Long, Set<Key>> byMenuSemester = new ConcurrentHashMap<>(); // 사이드바 학기 목록
+
+    private final int maxStamps;
+
+    public DashboardCache(@Value("${dashboard.cache.max-size:10000}") long maxSize,
+                          @Value("${dashboard.cache.max-stamps:10000}") int maxStamps) {
+        this.maxStamps = maxStamps;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                // 크기 초과로 밀려난 항목은 색인에서도 뺌 (직접 지운 항목은 지운 쪽에서 처리)
+                .evictionListener((Key key, DashboardDto.DashboardViewDto view, RemovalCause cause) -> {
+                    if (key != null && view != null) unindex(key, view);
+                })
+                .recordStats()
+                .build();
+    }
+
+    @Getter @AllArgsConstructor @EqualsAndHashCode
+    public static class Key {
+        private final Long userId;
+        private final Long semId; // null 이면 최신 학기
+        private final Long subId;
+        private final List<Integer> categories; // 정렬된 목록, 비어있으면 null
+    }
+
+    public static Key key(Long userId, Long semId, Long subId, List<Integer> categories) {
+        List<Integer> normalized = (categories == null || categories.isEmpty())
+                ? null
+                : categories.stream().distinct().sorted().toList();
+        return new Key(userId, semId, subId, normalized);
+    }
+
+    public DashboardDto.DashboardViewDto get(Key key) {
+        return cache.getIfPresent(key);
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 조회 시작(loadedAt) 이후 응답에 들어간 사용자/학기/과목이 무효화되지 않았을 때만 저장
+     * 색인을 먼저 만들고 넣은 뒤 다시 확인해서, 그 사이 무효화가 지나갔다면 방금 넣은 항목을 직접 지움
+     * (무효화는 stamp 를 먼저 남기고 색인을 지우므로 둘 중 한 쪽에서는 반드시 걸림)
+     */
+    public void put(Key key, DashboardDto.DashboardViewDto view, long loadedAt) {
+        if (invalidatedSince(key, view, loadedAt)) return;
+
+        remove(key); // 같은 키의 이전 응답 색인 정리
+        index(key, view);
+        cache.put(key, view);
+        if (invalidatedSince(key, view, loadedAt)) {
+            remove(key);
+        }
+    }
+
+    // 학기 추가/삭제 (사이드바가 바뀜)
+    public void evictUser(Long userId) {
+        evictIndexed(byUser, userId);
+    }
+
+    // 학기 안의 과목/과제 변경
+    public void evictSemester(Long semId) {
+        evictIndexed(bySemester, semId);
+    }
+
+    // 과제 변경, 그 과목이 들어있는 대시보드만
+    public void evictSubject(Long subId) {
+        evictIndexed(bySubject, subId);
+    }
+
+    // 과제 수가 바뀐 학기의 사이드바 배지, 같은 사용자의 다른 학기 대시보드에도 나오므로 그쪽까지
+    public void evictSemesterBadge(Long semId) {
+        evictIndexed(byMenuSemester, semId);
+    }
+
+    // 모든 사용자에 걸친 무효화 (자정, 계산 모드 이관)
+    public void evictAll() {
+        allStamp.accumulateAndGet(generation.incrementAndGet(), Math::max);
+        cache.asMap().keySet().forEach(this::remove);
+    }
+
+    // 적중률, 크기, 밀려난 수 (cache.gets{cache=dashboard} 등)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "dashboard");
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 전에 다른 요청이 옛 데이터를 다시 캐시할 수 있으므로
+     * 지금 한 번, 트랜잭션이 끝난 뒤 한 번 더 지움
+     */
+    private void evictIndexed(Map<Long, Set<Key>> index, Long id) {
+        removeIndexed(index, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    removeIndexed(index, id);
+                }
+            });
+        }
+    }
+
+    private void removeIndexed(Map<Long, Set<Key>> index, Long id) {
+        if (id == null) return;
+        stampsOf(index).merge(id, generation.incrementAndGet(), Math::max);
+        pruneStamps();
+        Set<Key> keys = index.remove(id);
+        if (keys != null) {
+            keys.forEach(this::remove);
+        }
+    }
+
+    private Map<Long, Long> stampsOf(Map<Long, Set<Key>> index) {
+        if (index == byUser) return userStamps;
+        if (index == bySemester) return semesterStamps;
+        if (index == bySubject) return subjectStamps;
+        return menuSemesterStamps;
+    }
+
+    // 응답에 들어간 id 중 loadedAt 이후에 무효화된 것이 있는지 (stamp 를 본 뒤 정리 여부를 봐야 정리와 겹쳐도 놓치지 않음)
+    private boolean invalidatedSince(Key key, DashboardDto.DashboardViewDto view, long loadedAt) {
+        boolean invalidated = allStamp.get() > loadedAt
+                || stampAfter(userStamps, key.getUserId(), loadedAt)
+                || stampAfter(semesterStamps, view.getDashboard().getSemId(), loadedAt)
+                || view.getDashboard().getSubjectList().stream().anyMatch(s -> stampAfter(subjectStamps, s.getSubId(), loadedAt))
+                || view.getSemesters().stream().anyMatch(s -> stampAfter(menuSemesterStamps, s.getSemId(), loadedAt));
+        return invalidated || loadedAt < forgottenUpTo;
+    }
+
+    private static boolean stampAfter(Map<Long, Long> stamps, Long id, long loadedAt) {
+        Long stamp = (id == null) ? null : stamps.get(id);
+        return stamp != null && stamp > loadedAt;
+    }
+
+    /**
+     * stamp 가 maxStamps 를 넘으면 오래된 절반을 지움
+     * 지우기 전에 forgottenUpTo 를 올려서, 지운 stamp 보다 먼저 시작한 조회는 저장하지 않게 함
+     * (조회 하나는 짧으므로 그 사이 무효화가 수천 번 지나간 조회만 해당)
+     */
+    private void pruneStamps() {
+        if (userStamps.size() + semesterStamps.size() + subjectStamps.size() + menuSemesterStamps.size() <= maxStamps) return;
+        synchronized (this) {
+            if (userStamps.size() + semesterStamps.size() + subjectStamps.size() + menuSemesterStamps.size() <= maxStamps) return;
+            long cutoff = generation.get() - maxStamps / 2;
+            forgottenUpTo = Math.max(forgottenUpTo, cutoff);
+            for (Map<Long, Long> stamps : List.of(userStamps, semesterStamps, subjectStamps, menuSemesterStamps)) {
+                stamps.values().removeIf(stamp -> stamp <= cutoff);
+            }
+        }
+    }
+
+    private void remove(Key key) {
+        DashboardDto.DashboardViewDto view = cache.asMap().remove(key);
+        if (view != null) unindex(key, view);
+    }
+
+    private void index(Key key, DashboardDto.DashboardViewDto view) {
+        link(byUser, key.getUserId(), key);
+        link(bySemester, view.getDashboard().getSemId(), key);
+        view.getDashboard().getSubjectList().forEach(s -> link(bySubject, s.getSubId(), key));
+        view.getSemesters().forEach(s -> link(byMenuSemester, s.getSemId(), key));
+    }
+
+    private void unindex(Key key, DashboardDto.DashboardViewDto view) {
+        unlink(byUser, key.getUserId(), key);
+        unlink(bySemester, view.getDashboard().getSemId(), key);
+        view.getDashboard().getSubjectList().forEach(s -> unlink(bySubject, s.getSubId(), key));
+        view.getSemesters().forEach(s -> unlink(byMenuSemester, s.getSemId(), key));
+    }
+
+    // 빈 집합은 지우므로 추가/제거 모두 compute 안에서 (지워진 집합에 넣는 일이 없도록)
+    private static void link(Map<Long, Set<Key>> index, Long id, Key key) {
+        index.compute(id, (k, keys) -> {
+            Set<Key> set = (keys != null) ? keys : ConcurrentHashMap.newKeySet();
+            set.add(key);
+            return set;
+        });
+    }
+
+    private static void unlink(Map<Long, Set<Key>> index, Long id, Key key) {
+        index.computeIfPresent(id, (k, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+}
@@ -0,0 +1,41 @@
+package com.toy.subkeeper.cache;
+
+import com.toy.subkeeper.event.DomainEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 도메인 이벤트로 대시보드 캐시 무효화 (커밋 후)
+ * 커밋 전에 시작한 조회의 결과는 generation 이 바뀌어 캐시에 들어가지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class DashboardCacheInvalidator {
+    private final DashboardCache dashboardCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEvent(DomainEvent event) {
+        switch (event.getType()) {
+            case SEMESTER_CREATED -> dashboardCache.evictUser(event.getUserId()); // 사이드바가 바뀜
+            case SEMESTER_DELETED -> {
+                dashboardCache.evictUser(event.getUserId());
+                dashboardCache.evictSemester(event.getSemId());
+            }
+            case SUBJECT_CREATED -> dashboardCache.evictSemester(event.getSemId());
+            case SUBJECT_DELETED, ASSIGNMENT_CREATED, ASSIGNMENT_DELETED, ASSIGNMENT_STATE_CHANGED -> {
+                dashboardCache.evictSubject(event.getSubId());
+                dashboardCache.evictSemesterBadge(event.getSemId()); // 사이드바 배지
+            }
+            case ASSIGNMENT_UPDATED -> {
+                dashboardCache.evictSubject(event.getSubId());
+                // 마감일이 바뀌면 기한 지난 수가 바뀜, 다른 학기로 옮긴 경우에도 같은 사용자의 나머지 대시보드는 여기서 지워짐
+                dashboardCache.evictSemesterBadge(event.getSemId());
+                if (event.getPrevSubId() != null && !event.getPrevSubId().equals(event.getSubId())) {
+                    dashboardCache.evictSubject(event.getPrevSubId());
+                }
+            }
+            default -> { }
+        }
+    }
+}
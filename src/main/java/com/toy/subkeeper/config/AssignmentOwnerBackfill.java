@@ -0,0 +1,34 @@
+package com.toy.subkeeper.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 과제에 학기 id(sem_id) 열이 추가되기 전 행을 시작 시 한 번 채움
+ * 과목은 학기를 옮기지 않으므로 한 번 채운 값은 과제의 과목이 바뀔 때만 엔티티에서 갱신
+ * H2(로컬)에서도 돌도록 UPDATE ... JOIN 대신 상관 서브쿼리로 작성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+
+public class AssignmentOwnerBackfill {
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory; // 스키마 생성(ddl) 뒤에 실행되도록 의존
+
+    @PostConstruct
+    public void backfillOwnerIds() {
+        int updated = jdbcTemplate.update("""
+                UPDATE assignment
+                   SET sem_id = (SELECT s.sem_id FROM subject s WHERE s.id = assignment.sub_id)
+                 WHERE sem_id IS NULL
+                """);
+        if (updated > 0) {
+            log.info("과제 학기 id 채움 : {}건", updated);
+        }
+    }
+}
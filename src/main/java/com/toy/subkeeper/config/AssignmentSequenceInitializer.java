@@ -0,0 +1,41 @@
+package com.toy.subkeeper.config;
+
+import com.toy.subkeeper.domain.Assignment;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 과제 id 가 IDENTITY 에서 시퀀스로 바뀌면서, 기존 과제 id 와 겹치지 않도록 시작 시 시퀀스를 max(id) 뒤로 올림
+ * MySQL 은 시퀀스가 없어 assignment_seq 테이블(next_val)로 흉내내므로 두 경우를 나눠 처리
+ * 이미 더 큰 값이면 그대로 둠
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+
+public class AssignmentSequenceInitializer {
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory; // 스키마 생성 뒤에 실행되도록 의존
+
+    @PostConstruct
+    public void alignSequence() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM assignment", Long.class);
+        long next = maxId + Assignment.ID_ALLOCATION_SIZE + 1;
+
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        if (product != null && (product.contains("MySQL") || product.contains("MariaDB"))) {
+            int updated = jdbcTemplate.update("UPDATE assignment_seq SET next_val = GREATEST(next_val, ?)", next);
+            if (updated == 0) {
+                jdbcTemplate.update("INSERT INTO assignment_seq (next_val) VALUES (?)", next);
+            }
+        } else {
+            jdbcTemplate.execute("ALTER SEQUENCE assignment_seq RESTART WITH " + next);
+        }
+        log.info("과제 id 시퀀스 정렬 : max(id)= {}", maxId);
+    }
+}
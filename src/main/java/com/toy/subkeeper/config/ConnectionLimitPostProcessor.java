@@ -0,0 +1,34 @@
+package com.toy.subkeeper.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)일 때만 Hikari 풀 앞에 세마포어를 둠
+ * 허가 수는 Hikari maximumPoolSize 와 같게 맞춤, replica 를 쓰면 primary / replica 풀마다 따로
+ * SQL 집계용 래퍼보다 먼저(안쪽에) 감싸도록 순서를 가장 앞으로
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class ConnectionLimitPostProcessor implements BeanPostProcessor, Ordered {
+
+    @Value("${datasource.permit-timeout-millis:30000}")
+    private long permitTimeoutMillis;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource hikari) {
+            return new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(), permitTimeoutMillis);
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
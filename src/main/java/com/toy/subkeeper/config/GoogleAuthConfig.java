@@ -0,0 +1,40 @@
+package com.toy.subkeeper.config;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collections;
+
+/**
+ * 구글 ID 토큰 검증기를 애플리케이션 전체에서 하나만 사용
+ * 공개키(인증서)는 GooglePublicKeysManager 가 캐시하고, GoogleCertRefresher 가 만료 전에 미리 갱신
+ * google.auth.certs-url 을 바꾸면 다른 인증서 서버로 검증 가능 (테스트는 LocalGoogleCertServer 대역 사용)
+ */
+@Configuration
+public class GoogleAuthConfig {
+
+    @Value("${google.client.id}")
+    private String googleClientId;
+
+    @Value("${google.auth.certs-url:https://www.googleapis.com/oauth2/v1/certs}")
+    private String certsUrl;
+
+    @Bean
+    public GooglePublicKeysManager googlePublicKeysManager() {
+        return new GooglePublicKeysManager.Builder(new NetHttpTransport(), GsonFactory.getDefaultInstance())
+                .setPublicCertsEncodedUrl(certsUrl)
+                .build();
+    }
+
+    @Bean
+    public GoogleIdTokenVerifier googleIdTokenVerifier(GooglePublicKeysManager googlePublicKeysManager) {
+        return new GoogleIdTokenVerifier.Builder(googlePublicKeysManager)
+                .setAudience(Collections.singletonList(googleClientId))
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.toy.subkeeper.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson 이 getter/setter 를 리플렉션 대신 LambdaMetafactory 로 만든 호출로 부르도록 Blackbird 모듈 등록
+ * Module 빈은 Spring Boot 가 ObjectMapper 에 자동으로 붙임
+ */
+@Configuration
+@ConditionalOnProperty(name = "jackson.blackbird.enabled", havingValue = "true", matchIfMissing = true)
+public class JacksonConfig {
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,45 @@
+package com.toy.subkeeper.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션은 replica, 나머지(쓰기, 트랜잭션 밖)는 primary 로 보냄
+ * 트랜잭션 속성이 정해진 뒤 실제 커넥션을 받도록 LazyConnectionDataSourceProxy 안에 둬야 함
+ * 방금 쓴 사용자/학기의 요청은 pinPrimary() 로 읽기도 primary 로 보냄 (복제 지연 대비)
+ * 캐시에 오래 남는 조회는 onPrimary() 로 항상 primary 에서 읽음 (replica 의 옛 값이 무효화 전까지 남지 않도록)
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    public static void pinPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+
+    // work 동안만 primary 로 읽음, 이미 pin 된 요청이면 그대로 둠
+    // 라우팅을 쓰지 않는 설정(replica 없음)에서는 ThreadLocal 만 잠깐 설정되고 영향 없음
+    public static <T> T onPrimary(Supplier<T> work) {
+        boolean pinned = PINNED.get() != null;
+        pinPrimary();
+        try {
+            return work.get();
+        } finally {
+            if (!pinned) clear();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (PINNED.get() != null) return PRIMARY;
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? REPLICA : PRIMARY;
+    }
+}
@@ -0,0 +1,61 @@
+package com.toy.subkeeper.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Map;
+
+// 요청의 사용자(X-USER-ID)나 학기(semId 경로 변수)에 최근 쓰기가 있으면 이번 요청은 primary 에서 읽음
+// 비동기 요청(SSE, .ics 스트리밍)은 afterCompletion 이 다른 스레드에서 불리므로 요청 스레드를 놓을 때 지움
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "datasource.replica.url")
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor, WebMvcConfigurer {
+    private final RecentWriteTracker recentWriteTracker;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(this);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (recentWriteTracker.isRecent(parse(request.getHeader("X-USER-ID")), semId(request))) {
+            ReadWriteRoutingDataSource.pinPrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReadWriteRoutingDataSource.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReadWriteRoutingDataSource.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Long semId(HttpServletRequest request) {
+        Object vars = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (!(vars instanceof Map<?, ?> map)) return null;
+        return parse((String) ((Map<String, String>) map).get("semId"));
+    }
+
+    private Long parse(String value) {
+        if (value == null) return null;
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
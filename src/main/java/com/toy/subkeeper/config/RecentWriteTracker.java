@@ -0,0 +1,46 @@
+package com.toy.subkeeper.config;
+
+import com.toy.subkeeper.event.DomainEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최근에 쓰기가 커밋된 사용자/학기 (read-your-writes)
+ * 커밋 후 window 동안은 그 사용자/학기의 읽기를 primary 로 보내서 복제 지연으로 옛 데이터를 보지 않게 함
+ */
+@Component
+@ConditionalOnProperty(name = "datasource.replica.url")
+public class RecentWriteTracker {
+    private final Map<Long, Long> userUntil = new ConcurrentHashMap<>();
+    private final Map<Long, Long> semUntil = new ConcurrentHashMap<>();
+
+    @Value("${datasource.replica.read-your-writes-millis:5000}")
+    private long windowMillis;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEvent(DomainEvent event) {
+        long until = System.currentTimeMillis() + windowMillis;
+        if (event.getUserId() != null) userUntil.put(event.getUserId(), until);
+        if (event.getSemId() != null) semUntil.put(event.getSemId(), until);
+    }
+
+    public boolean isRecent(Long userId, Long semId) {
+        long now = System.currentTimeMillis();
+        return (userId != null && userUntil.getOrDefault(userId, 0L) > now)
+                || (semId != null && semUntil.getOrDefault(semId, 0L) > now);
+    }
+
+    // 지난 항목 정리
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        userUntil.values().removeIf(until -> until <= now);
+        semUntil.values().removeIf(until -> until <= now);
+    }
+}
@@ -0,0 +1,57 @@
+package com.toy.subkeeper.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * datasource.replica.url 이 있을 때만 primary / replica 두 풀을 만들고 라우팅
+ * primary 는 spring.datasource.*, replica 는 datasource.replica.* (계정이 없으면 primary 와 같음)
+ * 풀 설정은 각각 spring.datasource.hikari.*, datasource.replica.hikari.*
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.url")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, Environment env) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(env.getRequiredProperty("datasource.replica.url"));
+        dataSource.setUsername(env.getProperty("datasource.replica.username", properties.determineUsername()));
+        dataSource.setPassword(env.getProperty("datasource.replica.password", properties.determinePassword()));
+        dataSource.setReadOnly(true);
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    // JPA, JdbcTemplate 이 사용하는 DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSource primaryDataSource, DataSource replicaDataSource) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.PRIMARY, primaryDataSource,
+                ReadWriteRoutingDataSource.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,63 @@
+package com.toy.subkeeper.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬/테스트(H2)에서 replica 를 primary 와 다른 DB 로 띄울 때, primary 에 만들어진 스키마를 replica 에 그대로 만듦
+ * 운영 replica 는 복제로 스키마를 받으므로 datasource.replica.copy-schema=true 일 때만
+ * replica 풀은 읽기 전용 커넥션이라 DDL 은 따로 연 커넥션으로 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "datasource.replica.copy-schema", havingValue = "true")
+
+public class ReplicaSchemaCopier {
+    private final DataSource dataSource; // 트랜잭션 밖이라 primary 로 감
+    private final EntityManagerFactory entityManagerFactory; // 스키마 생성(ddl) 뒤에 실행되도록 의존
+
+    @Value("${datasource.replica.url}")
+    private String replicaUrl;
+
+    @Value("${datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @PostConstruct
+    public void copySchema() throws SQLException {
+        List<String> statements = new ArrayList<>();
+        try (Connection con = dataSource.getConnection();
+             Statement st = con.createStatement();
+             ResultSet rs = st.executeQuery("SCRIPT NODATA")) {
+            while (rs.next()) {
+                String sql = rs.getString(1);
+                if (!sql.startsWith("--")) statements.add(sql); // 행 수 주석
+            }
+        }
+
+        DriverManagerDataSource replica = new DriverManagerDataSource(replicaUrl, replicaUsername, replicaPassword);
+        try (Connection con = replica.getConnection(); Statement st = con.createStatement()) {
+            for (String sql : statements) {
+                st.execute(sql);
+            }
+        }
+        log.info("replica 스키마 복사 : {}개 문장", statements.size());
+    }
+}
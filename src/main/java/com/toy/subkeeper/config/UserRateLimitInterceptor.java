@@ -0,0 +1,100 @@
+package com.toy.subkeeper.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * X-USER-ID 별 요청 수 제한 (토큰 버킷)
+ * 사용자마다 AtomicLong 하나에 "다음 토큰이 생기는 시각"을 두고 CAS 로만 갱신 (GCRA, 락 없음)
+ * 초당 rate 개, 최대 burst 개까지 몰아서 허용하고 넘으면 429 + Retry-After
+ * 한동안 요청이 없는 사용자는 Caffeine 이 지우고, 사용자 수도 max-users 로 묶어서 X-USER-ID 를 바꿔가며 보내도 메모리가 계속 늘지 않음
+ * 걸리는 경로는 ratelimit.per-user.path-patterns (쉼표로 여러 개, 기본은 대시보드만)
+ */
+@Component
+@ConditionalOnProperty(name = "ratelimit.per-user.enabled", havingValue = "true", matchIfMissing = true)
+public class UserRateLimitInterceptor implements HandlerInterceptor, WebMvcConfigurer {
+    private final Cache<Long, AtomicLong> buckets;
+    private final String[] pathPatterns;
+    private final long intervalNanos; // 토큰 하나가 생기는 간격
+    private final long toleranceNanos; // 몰아서 쓸 수 있는 만큼 (burst - 1 개)
+    private final Counter allowed;
+    private final Counter rejected;
+
+    public UserRateLimitInterceptor(MeterRegistry meterRegistry,
+                                    @Value("${ratelimit.per-user.rate:10}") double ratePerSecond,
+                                    @Value("${ratelimit.per-user.burst:20}") int burst,
+                                    @Value("${ratelimit.per-user.max-users:100000}") long maxUsers,
+                                    @Value("${ratelimit.per-user.path-patterns:/semester/*/dashboard}") String[] pathPatterns) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        this.pathPatterns = pathPatterns;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        this.toleranceNanos = intervalNanos * Math.max(0, burst - 1);
+        this.allowed = meterRegistry.counter("ratelimit.requests", "result", "allowed");
+        this.rejected = meterRegistry.counter("ratelimit.requests", "result", "rejected");
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(this).addPathPatterns(pathPatterns);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        Long userId = parse(request.getHeader("X-USER-ID"));
+        if (userId == null) return true;
+
+        long waitNanos = tryAcquire(buckets.get(userId, id -> new AtomicLong(System.nanoTime())));
+        if (waitNanos == 0) {
+            allowed.increment();
+            return true;
+        }
+
+        rejected.increment();
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1)));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        return false;
+    }
+
+    // 허용이면 0, 거절이면 기다려야 하는 시간(ns)
+    private long tryAcquire(AtomicLong nextFree) {
+        while (true) {
+            long now = System.nanoTime();
+            long tat = nextFree.get();
+            long base = Math.max(tat, now);
+            if (base - now > toleranceNanos) {
+                return base - now - toleranceNanos;
+            }
+            if (nextFree.compareAndSet(tat, base + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    private Long parse(String value) {
+        if (value == null) return null;
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -8,6 +8,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/assignment")
@@ -22,11 +24,29 @@ public class AssignmentController {
             "Res : {assignId, assignName, dueDate, category, subName, isComplete}")
     public ResponseEntity<AssignmentDto.AssignmentCreateResDto> createAssignment(@PathVariable Long subId, @RequestBody AssignmentDto.AssignmentCreateReqDto reqDto) {
         Assignment assignment = assignmentService.createAssignment(subId, reqDto);
-        AssignmentDto.AssignmentCreateResDto assignmentDto = AssignmentDto.AssignmentCreateResDto.from(assignment);
+        AssignmentDto.AssignmentCreateResDto assignmentDto = AssignmentDto.AssignmentCreateResDto.from(assignment, assignmentService.displayState(assignment));
 
         return ResponseEntity.ok(assignmentDto);
     }
 
+    @PostMapping("/subject/{subId}/bulk")
+    @Operation(summary = "과제 일괄 생성 (과목)"
+            , description = "한 과목에 여러 과제를 한 번에 생성합니다. 하나라도 잘못되면 아무것도 생성하지 않습니다.<br>" +
+            "Req : subId, {items: <List>{assignName, dueDate, category}}<br>" +
+            "Res : {count, items: <List>{assignId, assignName, dueDate, category, subId, subName, isComplete}}")
+    public ResponseEntity<AssignmentDto.AssignmentBulkCreateResDto> createAssignments(@PathVariable Long subId, @RequestBody AssignmentDto.AssignmentBulkCreateReqDto reqDto) {
+        return ResponseEntity.ok(toBulkResDto(assignmentService.createAssignments(subId, reqDto.getItems())));
+    }
+
+    @PostMapping("/bulk")
+    @Operation(summary = "과제 일괄 생성 (여러 과목)"
+            , description = "항목마다의 subId 로 여러 과목에 과제를 한 번에 생성합니다. 하나라도 잘못되면 아무것도 생성하지 않습니다.<br>" +
+            "Req : {items: <List>{assignName, dueDate, category, subId}}<br>" +
+            "Res : {count, items: <List>{assignId, assignName, dueDate, category, subId, subName, isComplete}}")
+    public ResponseEntity<AssignmentDto.AssignmentBulkCreateResDto> createAssignmentsAcrossSubjects(@RequestBody AssignmentDto.AssignmentBulkCreateReqDto reqDto) {
+        return ResponseEntity.ok(toBulkResDto(assignmentService.createAssignments(null, reqDto.getItems())));
+    }
+
     @PatchMapping("/{assignId}")
     @Operation(summary = "과제 수정"
             , description = "과제를 부분적 혹은 전체 수정합니다.<br>" +
@@ -34,7 +54,7 @@ public class AssignmentController {
             "Res : {assignId, assignName, dueDate, category, subName, isComplete}")
     public ResponseEntity<AssignmentDto.AssignmentUpdateResDto> updateAssignment(@PathVariable Long assignId, @RequestBody AssignmentDto.AssignmentUpdateReqDto reqDto) {
         Assignment assignment = assignmentService.updateAssignment(assignId, reqDto);
-        AssignmentDto.AssignmentUpdateResDto assignmentDto = AssignmentDto.AssignmentUpdateResDto.from(assignment);
+        AssignmentDto.AssignmentUpdateResDto assignmentDto = AssignmentDto.AssignmentUpdateResDto.from(assignment, assignmentService.displayState(assignment));
 
         return ResponseEntity.ok(assignmentDto);
     }
@@ -60,6 +80,25 @@ public class AssignmentController {
             @RequestBody AssignmentDto.AssignmentStateUpdateReqDto reqDto) {
         Assignment updatedAssign = assignmentService.updateCompleteState(assignId, reqDto.getIsComplete());
 
-        return ResponseEntity.ok(AssignmentDto.AssignmentStateUpdateResDto.from(updatedAssign));
+        return ResponseEntity.ok(AssignmentDto.AssignmentStateUpdateResDto.from(updatedAssign, assignmentService.displayState(updatedAssign)));
+    }
+
+    @PatchMapping("/complete")
+    @Operation(summary = "과제 완료 상태 일괄 변경"
+            , description = "여러 과제의 완료 상태를 한 번에 변경합니다. 없는 과제는 notFound 로 돌려줍니다.<br>" +
+            "Req : {items: <List>{assignId, isComplete}}<br>" +
+            "Res : {updated: <List>{assignId, isComplete, dueDate}, notFound: <List>assignId}")
+    public ResponseEntity<AssignmentDto.AssignmentBulkStateUpdateResDto> changeCompletes(@RequestBody AssignmentDto.AssignmentBulkStateUpdateReqDto reqDto) {
+        return ResponseEntity.ok(assignmentService.updateCompleteStates(reqDto.getItems()));
+    }
+
+    private AssignmentDto.AssignmentBulkCreateResDto toBulkResDto(List<Assignment> assignments) {
+        List<AssignmentDto.AssignmentCreateResDto> items = assignments.stream()
+                .map(a -> AssignmentDto.AssignmentCreateResDto.from(a, assignmentService.displayState(a)))
+                .toList();
+        return AssignmentDto.AssignmentBulkCreateResDto.builder()
+                .count(items.size())
+                .items(items)
+                .build();
     }
 }
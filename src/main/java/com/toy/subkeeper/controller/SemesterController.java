@@ -1,17 +1,27 @@
 package com.toy.subkeeper.controller;
 
 import com.toy.subkeeper.DTO.CalendarDto;
+import com.toy.subkeeper.DTO.CompactDto;
 import com.toy.subkeeper.DTO.DashboardDto;
 import com.toy.subkeeper.DTO.SemesterDto;
+import com.toy.subkeeper.DTO.StatsDto;
 import com.toy.subkeeper.exception.DuplicateSemNameException;
 import com.toy.subkeeper.domain.Semester;
+import com.toy.subkeeper.service.AssignmentStatService;
+import com.toy.subkeeper.service.CalendarExportService;
 import com.toy.subkeeper.service.SemesterService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -20,6 +30,8 @@ import java.util.List;
 
 public class SemesterController {
     private final SemesterService semesterService;
+    private final AssignmentStatService assignmentStatService;
+    private final CalendarExportService calendarExportService;
 
     @PostMapping
     @Operation(summary = "학기 생성"
@@ -51,25 +63,157 @@ public class SemesterController {
     @GetMapping("/{semId}/dashboard")
     @Operation(summary = "대시보드 조회"
             , description = "대시보드에 대한 모든 정보를 넘깁니다.<br>" +
-            "Req : userId(Header: 'X-USER-ID'), semId<br>" +
-            "Res : Dto 참조")
+            "Req : userId(Header: 'X-USER-ID'), semId, (Header: 'If-None-Match')<br>" +
+            "Res : Dto 참조, 변경이 없으면 304")
     public ResponseEntity<DashboardDto.DashboardViewDto> getDashboardView(
             @RequestHeader("X-USER-ID") Long userId,
             @PathVariable Long semId,
             @RequestParam(name = "subId", required = false) Long subId,
-            @RequestParam(name = "categories", required = false) List<Integer> categories
+            @RequestParam(name = "categories", required = false) List<Integer> categories,
+            WebRequest request
             ) {
+        String etag = semesterService.getDashboardEtag(userId);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         DashboardDto.DashboardViewDto res = semesterService.getDashboardView(userId, semId, subId, categories);
-        return ResponseEntity.ok(res);
+        return ResponseEntity.ok().eTag(etag).body(res);
+    }
+
+    // 대시보드 조회 (가벼운 형식)
+    @GetMapping(value = "/{semId}/dashboard", params = "format=compact")
+    @Operation(summary = "대시보드 조회 (compact)"
+            , description = "format=compact 이면 과목은 subjects 에 한 번만, 과제는 subId 로 참조하고 마감일은 dueDay(KST epoch day) + dueMinute 으로 넘깁니다.<br>" +
+            "dueLabel 과 null 값은 넘기지 않습니다.<br>" +
+            "Req : userId(Header: 'X-USER-ID'), semId, format=compact, (subId, categories), (Header: 'If-None-Match')<br>" +
+            "Res : {userId, userName, semId, semName, subjects, semesters, incomplete, complete}, 변경이 없으면 304")
+    public ResponseEntity<CompactDto.Dashboard> getCompactDashboardView(
+            @RequestHeader("X-USER-ID") Long userId,
+            @PathVariable Long semId,
+            @RequestParam(name = "subId", required = false) Long subId,
+            @RequestParam(name = "categories", required = false) List<Integer> categories,
+            WebRequest request
+    ) {
+        String etag = compactEtag(semesterService.getDashboardEtag(userId));
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        CompactDto.Dashboard res = CompactDto.Dashboard.from(semesterService.getDashboardView(userId, semId, subId, categories));
+        return ResponseEntity.ok().eTag(etag).body(res);
     }
 
     // 달력 조회
     @GetMapping("/{semId}/calendar")
     @Operation(summary = "달력 조회"
             , description = "학기에 해당하는 달력에 대한 모든 정보를 넘깁니다.<br>" +
-            "Res : semId<br>" +
-            "Req : {userName, <List>{subName, dueDate, assignName, category}}")
-    public ResponseEntity<CalendarDto.CalendarItemList> getCalendarItems(@PathVariable Long semId){
-        return ResponseEntity.ok(semesterService.getCalendarItems(semId));
+            "from, to(yyyy-MM-dd)를 주면 해당 기간만 마감일 순 페이지로 넘기며 다음 페이지는 nextCursor 로 조회합니다.<br>" +
+            "Res : semId, (from, to, cursor, size), (Header: 'If-None-Match')<br>" +
+            "Req : {userName, <List>{assignId, subName, dueDate, assignName, category}, syncToken, nextCursor}, 변경이 없으면 304")
+    public ResponseEntity<CalendarDto.CalendarItemList> getCalendarItems(
+            @PathVariable Long semId,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size,
+            WebRequest request){
+        String etag = semesterService.getCalendarEtag(semId);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        return ResponseEntity.ok().eTag(etag).body(semesterService.getCalendarItems(semId, from, to, cursor, size));
+    }
+
+    // 달력 조회 (가벼운 형식)
+    @GetMapping(value = "/{semId}/calendar", params = "format=compact")
+    @Operation(summary = "달력 조회 (compact)"
+            , description = "format=compact 이면 과목명을 항목마다 넘기지 않고 subjects 사전과 subId 로, 마감일은 dueDay(KST epoch day) + dueMinute 으로 넘깁니다.<br>" +
+            "Req : semId, format=compact, (from, to, cursor, size), (Header: 'If-None-Match')<br>" +
+            "Res : {userName, subjects, items, syncToken, nextCursor}, 변경이 없으면 304")
+    public ResponseEntity<CompactDto.Calendar> getCompactCalendarItems(
+            @PathVariable Long semId,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size,
+            WebRequest request){
+        String etag = compactEtag(semesterService.getCalendarEtag(semId));
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        return ResponseEntity.ok().eTag(etag).body(semesterService.getCompactCalendarItems(semId, from, to, cursor, size));
+    }
+
+    // 달력 증분 동기화
+    @GetMapping("/{semId}/calendar/delta")
+    @Operation(summary = "달력 증분 동기화"
+            , description = "마지막으로 받은 syncToken 이후 생성/수정/삭제된 달력 항목만 넘깁니다.<br>" +
+            "토큰이 없거나 너무 오래된 경우 full=true 와 함께 전체 목록을 넘깁니다.<br>" +
+            "Req : semId, since(syncToken)<br>" +
+            "Res : {full, syncToken, userName, items, created, updated, deleted}")
+    public ResponseEntity<CalendarDto.CalendarDelta> getCalendarDelta(
+            @PathVariable Long semId,
+            @RequestParam(name = "since", required = false) Long since) {
+        return ResponseEntity.ok(semesterService.getCalendarDelta(semId, since));
+    }
+
+    // 학기 통계
+    @GetMapping("/{semId}/stats")
+    @Operation(summary = "학기 통계"
+            , description = "과목별 완료율, 카테고리별 과제 수, 기한이 지난 미완료 수, 주(월요일 시작)별 마감 과제 수를 넘깁니다.<br>" +
+            "Req : semId, (Header: 'If-None-Match')<br>" +
+            "Res : {semId, total, completed, overdue, completionRate, subjects, categories, weeks}, 변경이 없으면 304")
+    public ResponseEntity<StatsDto.SemesterStats> getStats(@PathVariable Long semId, WebRequest request) {
+        String etag = semesterService.getStatsEtag(semId);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        return ResponseEntity.ok().eTag(etag).body(assignmentStatService.getStats(semId));
+    }
+
+    // 학기 변경 이벤트 스트림
+    @GetMapping(value = "/{semId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "학기 변경 이벤트 구독 (SSE)"
+            , description = "연결되면 ready 이벤트를 보내고, 이후 과제 생성/수정/삭제/상태 변경, 과목 추가/삭제를 이벤트 이름(type)별로 보냅니다.<br>" +
+            "클라이언트는 ready 를 받은 뒤 대시보드를 한 번 조회하고 이후로는 이벤트만 반영하며, resync 를 받으면 다시 조회합니다.<br>" +
+            "Req : semId<br>" +
+            "Res : text/event-stream {type, subId, prevSubId, assignId, state, count, name, dueDate, category, at}")
+    public SseEmitter subscribeEvents(@PathVariable Long semId) {
+        return semesterService.subscribeEvents(semId);
+    }
+
+    // 달력 구독 (iCalendar)
+    @GetMapping(value = "/{semId}/calendar.ics", produces = "text/calendar")
+    @Operation(summary = "학기 마감일 달력 구독 (.ics)"
+            , description = "학기의 모든 과제 마감일을 iCalendar 형식으로 넘깁니다. 구글 캘린더 등에서 URL 로 구독할 수 있습니다.<br>" +
+            "Req : semId, (Header: 'If-None-Match', 'If-Modified-Since')<br>" +
+            "Res : text/calendar (VEVENT: 마감 시각, [과목명] 과제명, 카테고리), 학기 변경이 없으면 304")
+    public ResponseEntity<StreamingResponseBody> exportCalendar(@PathVariable Long semId, WebRequest request) {
+        Semester semester = calendarExportService.getSemester(semId);
+        String etag = calendarExportService.getEtag(semester);
+        long lastModified = semester.getModifiedAt() == null ? -1 : semester.getModifiedAt().getTime();
+        // modifiedAt 이 없는 학기는 ETag 만으로 비교
+        boolean notModified = lastModified >= 0 ? request.checkNotModified(etag, lastModified) : request.checkNotModified(etag);
+        if (notModified) {
+            return withLastModified(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag), lastModified).build();
+        }
+
+        return withLastModified(ResponseEntity.ok().eTag(etag), lastModified)
+                .contentType(MediaType.parseMediaType("text/calendar; charset=UTF-8"))
+                .body(calendarExportService.export(semester));
+    }
+
+    // 시각을 모르면(-1) Last-Modified 를 보내지 않음 (1969-12-31 로 나가지 않도록)
+    private static ResponseEntity.BodyBuilder withLastModified(ResponseEntity.BodyBuilder builder, long lastModified) {
+        return lastModified >= 0 ? builder.lastModified(lastModified) : builder;
+    }
+
+    // 같은 URL 에서 format 만 다른 응답이 캐시에서 섞이지 않도록 ETag 에 형식을 붙임 (W/"c1-3" -> W/"c1-3-compact")
+    private static String compactEtag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-compact\"";
     }
 }
@@ -8,8 +8,22 @@ import java.util.Date;
 
 @Entity @Getter @NoArgsConstructor @AllArgsConstructor @Builder
 @Setter // 내용 수정용
+@Table(indexes = {
+        // 임박 상태 갱신 (is_complete = 0 AND due_date 범위) 용 인덱스
+        @Index(name = "idx_assignment_complete_due", columnList = "is_complete, due_date"),
+        // 달력 기간 조회용 커버링 인덱스 (과목별 마감일 범위 + 달력에 필요한 열, id 는 InnoDB 가 붙여줌)
+        @Index(name = "idx_assignment_sub_due", columnList = "sub_id, due_date, category, assign_name"),
+        // 학기 단위 대시보드/달력 조회용 (학기 id 를 과제에 같이 저장해서 과목 조인 없이 마감일 범위 스캔)
+        @Index(name = "idx_assignment_sem_due", columnList = "sem_id, due_date, sub_id, category, assign_name")
+})
 public class Assignment {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 일괄 생성 시 JDBC batch insert 가 되도록 IDENTITY 대신 시퀀스(MySQL 은 테이블로 흉내) 사용
+    // id 를 50개씩 미리 받아오므로 insert 마다 시퀀스를 읽지 않음
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "assignment_seq")
+    @SequenceGenerator(name = "assignment_seq", sequenceName = "assignment_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 50)
@@ -29,11 +43,22 @@ public class Assignment {
     @JoinColumn(name = "sub_id", nullable = false)
     private Subject subject;
 
+    // 과목 -> 학기를 따라가지 않도록 학기 id 를 과제에 같이 저장 (과목이 바뀔 때 같이 갱신)
+    // 기존 행은 시작 시 AssignmentOwnerBackfill 이 채우므로 null 허용
+    @Column(name = "sem_id")
+    private Long semId;
+
     public Assignment(String assignName, Date dueDate, int category, Subject subject, int isComplete) {
         this.assignName = assignName;
         this.dueDate = dueDate;
         this.category = category;
-        this.subject = subject;
         this.isComplete = isComplete;
+        setSubject(subject);
+    }
+
+    // 과목을 바꾸면 학기 id 도 같이 맞춤 (Semester 프록시의 id 는 조회 없이 읽힘)
+    public void setSubject(Subject subject) {
+        this.subject = subject;
+        this.semId = subject.getSemester().getId();
     }
 }
@@ -0,0 +1,41 @@
+package com.toy.subkeeper.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 과목 x 카테고리 x 마감일(KST epoch day) 별 과제 수
+ * 통계와 사이드바 배지를 과제 테이블을 읽지 않고 만들기 위한 카운터로,
+ * 과제 생성/수정/삭제/완료 변경과 같은 트랜잭션에서 증감하고 매일 새벽 과제 테이블 기준으로 다시 맞춤
+ */
+@Entity @Getter @NoArgsConstructor @AllArgsConstructor @Builder
+@Table(name = "assignment_stat", indexes = {
+        @Index(name = "idx_assignment_stat_sem_day", columnList = "sem_id, due_day")
+})
+public class AssignmentStat {
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "sem_id", nullable = false)
+    private Long semId;
+
+    @Column(nullable = false)
+    private int total;
+
+    @Column(nullable = false)
+    private int completed; // 완료(1) 과제 수
+
+    @Embeddable @Getter @NoArgsConstructor @AllArgsConstructor @EqualsAndHashCode
+    public static class Key implements Serializable {
+        @Column(name = "sub_id", nullable = false)
+        private Long subId;
+
+        @Column(nullable = false)
+        private int category;
+
+        @Column(name = "due_day", nullable = false)
+        private int dueDay;
+    }
+}
@@ -0,0 +1,40 @@
+package com.toy.subkeeper.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+// 달력 증분 동기화용 변경 기록, id 가 곧 동기화 토큰
+@Entity @Getter @NoArgsConstructor @AllArgsConstructor @Builder
+@Table(indexes = {
+        @Index(name = "idx_calendar_change_sem", columnList = "sem_id, id"),
+        @Index(name = "idx_calendar_change_changed_at", columnList = "changed_at")
+})
+public class CalendarChange {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "sem_id", nullable = false)
+    private Long semId;
+
+    @Column(name = "assign_id", nullable = false)
+    private Long assignId;
+
+    @Column(nullable = false)
+    private int changeType; // 0 : 생성, 1 : 수정, 2 : 삭제
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(nullable = false)
+    private Date changedAt;
+
+    public CalendarChange(Long semId, Long assignId, int changeType, Date changedAt) {
+        this.semId = semId;
+        this.assignId = assignId;
+        this.changeType = changeType;
+        this.changedAt = changedAt;
+    }
+}
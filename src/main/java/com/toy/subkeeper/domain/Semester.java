@@ -9,9 +9,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 @Entity @Builder @Getter @AllArgsConstructor @NoArgsConstructor
+@Table(uniqueConstraints = {
+        // 동일 사용자 내 학기 이름 중복 방지 (동시 요청에도 DB 가 막아줌)
+        @UniqueConstraint(name = "uk_semester_user_sem_name", columnNames = {"user_id", "sem_name"})
+})
 public class Semester {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -24,11 +29,20 @@ public class Semester {
     private List<Subject> subjectList = new ArrayList<>();
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(name = "fk_semester_user"))
     private User user;
 
+    // 학기 안의 과목/과제가 바뀔 때마다 증가 (대시보드, 달력 ETag 용)
+    @Column(nullable = false)
+    private long revision;
+
+    // revision 이 오른 마지막 시각 (달력 구독(.ics) Last-Modified 용), 이 열이 생기기 전 학기는 null
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date modifiedAt;
+
     public Semester(String semName, User user) {
         this.semName = semName;
         this.user = user;
+        this.modifiedAt = new Date();
     }
 }
@@ -10,6 +10,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity @Getter @NoArgsConstructor @AllArgsConstructor @Builder
+@Table(uniqueConstraints = {
+        // 동일 학기 내 과목 이름 중복 방지, 학기 -> 과목 조인 시 과목명까지 이 인덱스로 해결
+        @UniqueConstraint(name = "uk_subject_sem_sub_name", columnNames = {"sem_id", "sub_name"})
+})
 public class Subject {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -22,7 +26,7 @@ public class Subject {
     private List<Assignment> assignmentList = new ArrayList<>();
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
-    @JoinColumn(name = "sem_id", nullable = false)
+    @JoinColumn(name = "sem_id", nullable = false, foreignKey = @ForeignKey(name = "fk_subject_semester"))
     private Semester semester;
 
     public Subject(String subName, Semester semester) {
@@ -0,0 +1,29 @@
+package com.toy.subkeeper.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서비스에서 일어난 변경 한 건 (감사 로그, 캐시 무효화 등에 사용)
+ * 해당 없는 id 는 null, 일괄 작업은 과목 단위로 한 건씩 내고 count 에 개수를 담음
+ */
+@Getter
+@Builder
+public class DomainEvent {
+    private final DomainEventType type;
+    private final Long userId;
+    private final Long semId;
+    private final Long subId;
+    private final Long prevSubId; // 과제가 다른 과목으로 옮겨진 경우 이전 과목
+    private final Long assignId;
+    private final Integer state; // 과제 완료 상태
+    private final int count;
+    private final String name; // 학기/과목/과제 이름
+    private final Date dueDate; // 과제 생성/수정 시, 클라이언트가 다시 조회하지 않고 반영하도록
+    private final Integer category;
+    private final Integer subjectCount; // 학기 삭제 시 같이 지운 과목 수
+    @Builder.Default
+    private final long at = System.currentTimeMillis();
+}
@@ -0,0 +1,157 @@
+package com.toy.subkeeper.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 도메인 이벤트 감사 로그
+ * 커밋된 이벤트만 링 버퍼에 넣고(요청 스레드는 여기까지), 백그라운드 스레드가 batch 로 꺼내
+ * 추가 전용 파일에 한 줄씩 JSON 으로 씀. 버퍼가 가득 차면 요청을 막지 않고 버린 수만 셈
+ */
+@Slf4j
+@Component
+public class DomainEventLog implements SmartLifecycle, MeterBinder {
+    private static final long REOPEN_BACKOFF_NANOS = 1_000_000_000L; // 1초
+
+    private final MpscRingBuffer<DomainEvent> buffer;
+    private final ObjectMapper objectMapper;
+    private final Path path;
+    private final int batchSize;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public DomainEventLog(ObjectMapper objectMapper,
+                          @Value("${event.log.buffer-size:8192}") int bufferSize,
+                          @Value("${event.log.batch-size:512}") int batchSize,
+                          @Value("${event.log.path:logs/domain-events.log}") String path) {
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.path = Path.of(path);
+    }
+
+    // 커밋된 변경만 기록 (트랜잭션 밖에서 발행되면 바로)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEvent(DomainEvent event) {
+        if (!buffer.offer(event)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::writeLoop, "domain-event-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    // 멈출 때 버퍼에 남은 이벤트까지 쓰고 종료
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread == null) return;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("domain.events.pending", buffer, MpscRingBuffer::size).register(registry);
+        Gauge.builder("domain.events.dropped", dropped, AtomicLong::get).register(registry);
+        Gauge.builder("domain.events.written", written, AtomicLong::get).register(registry);
+    }
+
+    /**
+     * 쓰기에 실패하면(디스크 가득 참, 파일이 지워지거나 옮겨짐 등) 그 batch 만 버린 수로 세고
+     * 파일을 닫았다가 잠시 뒤 다시 열어 계속 씀, 직렬화에 실패한 이벤트는 그 한 건만 버림
+     */
+    private void writeLoop() {
+        List<DomainEvent> batch = new ArrayList<>(batchSize);
+        BufferedWriter writer = null;
+        while (true) {
+            batch.clear();
+            if (buffer.drainTo(batch, batchSize) == 0) {
+                if (!running) break;
+                LockSupport.parkNanos(5_000_000L); // 5ms
+                continue;
+            }
+            try {
+                if (writer == null) writer = open();
+                writeBatch(writer, batch);
+            } catch (IOException | RuntimeException e) {
+                dropped.addAndGet(batch.size());
+                log.error("도메인 이벤트 로그 쓰기 실패, {}건 버리고 파일을 다시 엶: {}", batch.size(), path, e);
+                closeQuietly(writer);
+                writer = null;
+                if (running) LockSupport.parkNanos(REOPEN_BACKOFF_NANOS);
+            }
+        }
+        closeQuietly(writer);
+    }
+
+    private BufferedWriter open() throws IOException {
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+        return Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private void writeBatch(BufferedWriter writer, List<DomainEvent> batch) throws IOException {
+        int lines = 0;
+        for (DomainEvent event : batch) {
+            String json;
+            try {
+                json = objectMapper.writeValueAsString(event);
+            } catch (JsonProcessingException e) {
+                dropped.incrementAndGet();
+                log.warn("도메인 이벤트 직렬화 실패: {}", event.getType(), e);
+                continue;
+            }
+            writer.write(json);
+            writer.newLine();
+            lines++;
+        }
+        writer.flush();
+        written.addAndGet(lines);
+    }
+
+    private void closeQuietly(BufferedWriter writer) {
+        if (writer == null) return;
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.warn("도메인 이벤트 로그 닫기 실패: {}", path, e);
+        }
+    }
+}
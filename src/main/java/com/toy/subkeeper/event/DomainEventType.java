@@ -0,0 +1,13 @@
+package com.toy.subkeeper.event;
+
+public enum DomainEventType {
+    USER_CREATED,
+    SEMESTER_CREATED,
+    SEMESTER_DELETED,
+    SUBJECT_CREATED,
+    SUBJECT_DELETED,
+    ASSIGNMENT_CREATED,
+    ASSIGNMENT_UPDATED,
+    ASSIGNMENT_DELETED,
+    ASSIGNMENT_STATE_CHANGED
+}
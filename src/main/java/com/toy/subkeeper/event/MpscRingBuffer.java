@@ -0,0 +1,72 @@
+package com.toy.subkeeper.event;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 스레드가 넣고 한 스레드가 꺼내는 고정 크기 링 버퍼 (락 없음)
+ * 칸마다 순번을 두어 넣는 쪽은 tail 을 CAS 로 잡고, 꺼내는 쪽은 순번이 맞는 칸만 읽음
+ * 가득 차면 기다리지 않고 false 를 돌려줌 (요청 스레드가 막히지 않도록)
+ */
+public class MpscRingBuffer<T> {
+    private final int mask;
+    private final AtomicReferenceArray<T> items;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // 꺼내는 스레드만 사용
+
+    public MpscRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity 는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.items = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(T item) {
+        while (true) {
+            long t = tail.get();
+            int index = (int) (t & mask);
+            long seq = sequences.get(index);
+            if (seq == t) {
+                if (tail.compareAndSet(t, t + 1)) {
+                    items.set(index, item);
+                    sequences.set(index, t + 1); // 꺼내도 된다는 표시
+                    return true;
+                }
+            } else if (seq < t) {
+                return false; // 한 바퀴 전 항목을 아직 꺼내지 않음 (가득 참)
+            }
+            // seq > t : 다른 스레드가 먼저 잡음, 다시 시도
+        }
+    }
+
+    // 최대 max 개를 out 에 담고 담은 개수를 돌려줌
+    public int drainTo(List<T> out, int max) {
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) break; // 아직 채워지지 않음
+            out.add(items.get(index));
+            items.set(index, null);
+            sequences.set(index, head + mask + 1); // 다음 바퀴에 넣을 수 있게
+            head++;
+            drained++;
+        }
+        return drained;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public long size() {
+        return Math.max(0, tail.get() - head);
+    }
+}
@@ -0,0 +1,211 @@
+package com.toy.subkeeper.event;
+
+import com.toy.subkeeper.DTO.SemesterEventDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 학기별 변경 이벤트 스트림 (SSE)
+ * 커밋된 도메인 이벤트를 학기 구독자마다의 작은 큐에 넣기만 하고(커밋 스레드는 여기까지),
+ * 실제 전송은 구독자별로 가상 스레드 하나가 큐를 비우면서 함 -> 느린 클라이언트가 다른 구독자나 커밋을 막지 않음
+ * 연결은 서블릿 비동기라 대기 중인 구독자는 스레드를 잡지 않음
+ * 큐가 넘치면(클라이언트가 못 따라옴) 쌓인 이벤트를 버리고 resync 한 건만 보내서 대시보드를 다시 받게 함
+ */
+@Component
+public class SemesterEventStream implements SmartLifecycle, MeterBinder {
+    private static final Object HEARTBEAT = new Object();
+    private static final Object CLOSE = new Object();
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-sender-", 0).factory());
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong resyncs = new AtomicLong();
+    private final AtomicLong eventIds = new AtomicLong();
+    private volatile boolean running;
+
+    @Value("${sse.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    @Value("${sse.queue-size:64}")
+    private int queueSize;
+
+    @Value("${sse.timeout-millis:1800000}") // 30분마다 끊고 클라이언트가 다시 연결 (EventSource 기본 동작)
+    private long timeoutMillis;
+
+    // 구독 시작, 연결되자마자 ready 를 보내서 클라이언트가 대시보드를 한 번 받고 이후로는 이벤트만 반영
+    public SseEmitter subscribe(Long semId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "연결이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber sub = new Subscriber(semId, emitter, queueSize);
+        subscribers.computeIfAbsent(semId, k -> ConcurrentHashMap.newKeySet()).add(sub);
+        emitter.onCompletion(() -> remove(sub));
+        emitter.onTimeout(() -> remove(sub));
+        emitter.onError(e -> remove(sub));
+
+        try {
+            emitter.send(SseEmitter.event().name("ready").data(semId).reconnectTime(3_000));
+        } catch (IOException e) {
+            remove(sub);
+        }
+        return emitter;
+    }
+
+    // 커밋된 변경만 (트랜잭션 밖에서 발행되면 바로)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEvent(DomainEvent event) {
+        if (event.getSemId() == null || event.getType() == DomainEventType.SEMESTER_CREATED) return; // 사이드바는 대시보드 ETag 로
+        Set<Subscriber> subs = subscribers.get(event.getSemId());
+        if (subs == null || subs.isEmpty()) return;
+
+        SemesterEventDto.ChangeEvent dto = SemesterEventDto.ChangeEvent.from(event);
+        for (Subscriber sub : subs) {
+            offer(sub, dto);
+            if (event.getType() == DomainEventType.SEMESTER_DELETED) {
+                offer(sub, CLOSE); // 지워진 학기는 더 보낼 게 없음
+            }
+        }
+    }
+
+    // 프록시/로드밸런서가 유휴 연결을 끊지 않도록, 보낼 게 밀려 있지 않은 구독자에게만 주석 한 줄
+    @Scheduled(fixedDelayString = "${sse.heartbeat-millis:15000}")
+    public void heartbeat() {
+        for (Set<Subscriber> subs : subscribers.values()) {
+            for (Subscriber sub : subs) {
+                if (sub.queue.isEmpty()) offer(sub, HEARTBEAT);
+            }
+        }
+    }
+
+    private void offer(Subscriber sub, Object item) {
+        if (sub.closed) return;
+        if (!sub.queue.offer(item)) {
+            // 못 따라오는 구독자는 쌓인 변경을 버리고 다시 받게 함
+            sub.queue.clear();
+            sub.overflowed = true;
+        }
+        if (sub.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(sub));
+        }
+    }
+
+    private void drain(Subscriber sub) {
+        try {
+            while (!sub.closed) {
+                if (sub.overflowed) {
+                    sub.overflowed = false;
+                    resyncs.incrementAndGet();
+                    sub.emitter.send(SseEmitter.event().name("resync").data(sub.semId));
+                }
+                Object item = sub.queue.poll();
+                if (item == null) break;
+                if (item == HEARTBEAT) {
+                    sub.emitter.send(SseEmitter.event().comment("hb"));
+                } else if (item == CLOSE) {
+                    sub.emitter.complete();
+                    remove(sub);
+                } else {
+                    SemesterEventDto.ChangeEvent dto = (SemesterEventDto.ChangeEvent) item;
+                    sub.emitter.send(SseEmitter.event()
+                            .id(Long.toString(eventIds.incrementAndGet()))
+                            .name(dto.getType())
+                            .data(dto, MediaType.APPLICATION_JSON));
+                    sent.incrementAndGet();
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결 (이미 완료된 emitter 포함)
+            remove(sub);
+        } finally {
+            sub.draining.set(false);
+            // 비우는 사이 들어온 항목이 있으면 다시
+            if (!sub.closed && (!sub.queue.isEmpty() || sub.overflowed) && sub.draining.compareAndSet(false, true)) {
+                senders.execute(() -> drain(sub));
+            }
+        }
+    }
+
+    private void remove(Subscriber sub) {
+        if (sub.closed) return;
+        synchronized (sub) {
+            if (sub.closed) return;
+            sub.closed = true;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(sub.semId, (k, subs) -> {
+            subs.remove(sub);
+            return subs.isEmpty() ? null : subs;
+        });
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // 종료 시 열린 연결을 모두 닫아야 graceful shutdown 이 기다리지 않음
+    @Override
+    public void stop() {
+        running = false;
+        for (Set<Subscriber> subs : subscribers.values()) {
+            for (Subscriber sub : subs) {
+                sub.emitter.complete();
+                remove(sub);
+            }
+        }
+        senders.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("sse.subscribers", subscriberCount, AtomicInteger::get).register(registry);
+        FunctionCounter.builder("sse.events.sent", sent, AtomicLong::get).register(registry);
+        FunctionCounter.builder("sse.resyncs", resyncs, AtomicLong::get).register(registry);
+    }
+
+    private static final class Subscriber {
+        private final Long semId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Object> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean overflowed;
+        private volatile boolean closed;
+
+        private Subscriber(Long semId, SseEmitter emitter, int queueSize) {
+            this.semId = semId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+        }
+    }
+}
@@ -5,8 +5,28 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+    // 부모 행이 없어 자식 INSERT/UPDATE 가 막힌 경우의 오류 코드 (MySQL, H2)
+    private static final int MYSQL_NO_REFERENCED_ROW = 1452;
+    private static final int H2_PARENT_MISSING = 23506;
+
+    // 메세지의 "FOREIGN KEY (열) REFERENCES 부모 테이블" 부분 (이름을 붙이기 전에 만들어진 외래키용)
+    private static final Pattern FK_REFERENCE = Pattern.compile("foreign key\\s*\\((\\w+)\\)\\s*references\\s+(?:\\w+\\.)?(\\w+)");
+
+    private static final Map<String, String> MISSING_BY_CONSTRAINT = Map.of(
+            "fk_semester_user", "존재하지 않는 유저입니다.",
+            "fk_subject_semester", "존재하지 않는 학기입니다.");
+
+    private static final Map<String, String> MISSING_BY_PARENT_TABLE = Map.of(
+            "user", "존재하지 않는 유저입니다.",
+            "semester", "존재하지 않는 학기입니다.",
+            "subject", "존재하지 않는 과목입니다.");
 
     // 학기 이름 중복 예외
     @ExceptionHandler(DuplicateSemNameException.class)
@@ -21,9 +41,55 @@ public class GlobalExceptionHandler {
     }
 
     // DB 위반 예외
+    // 학기/과목 생성은 중복 확인 SELECT 없이 유니크 제약으로 막으므로, 제약 이름을 보고 기존 중복 예외로 변환
     @ExceptionHandler(org.springframework.dao.DataIntegrityViolationException.class)
     public ResponseEntity<String> handleDataIntegrity(org.springframework.dao.DataIntegrityViolationException e) {
+        String constraint = constraintName(e);
+        if (constraint.contains("uk_semester_user_sem_name")) {
+            return handleDuplicateSemNameException(new DuplicateSemNameException("해당 사용자에 이미 존재하는 학기입니다."));
+        }
+        if (constraint.contains("uk_subject_sem_sub_name")) {
+            return handleDuplicateSubNameException(new DuplicateSubNameException("동일 학기 내 이미 존재하는 과목입니다."));
+        }
+        // 생성 경로는 부모(유저/학기)를 조회하지 않고 참조만 쓰므로 없는 부모는 외래키 위반으로 옴
+        if (isParentMissing(e)) {
+            String message = missingParentMessage(constraint, e.getMostSpecificCause().getMessage());
+            if (message != null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(message);
+            }
+        }
         return ResponseEntity.status(HttpStatus.CONFLICT)
                 .body("Duplicate key or constraint violation.");
     }
+
+    // 드라이버/DB 마다 제약 이름이 들어있는 위치가 달라 Hibernate 가 찾은 이름이 없으면 메세지에서 찾음
+    private String constraintName(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof org.hibernate.exception.ConstraintViolationException cve && cve.getConstraintName() != null) {
+                return cve.getConstraintName().toLowerCase();
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message == null ? "" : message.toLowerCase();
+    }
+
+    private static boolean isParentMissing(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLException sql
+                    && (sql.getErrorCode() == MYSQL_NO_REFERENCED_ROW || sql.getErrorCode() == H2_PARENT_MISSING)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 이름 붙인 외래키면 이름으로, 아니면 메세지의 참조 테이블로 찾음
+    private static String missingParentMessage(String constraint, String rawMessage) {
+        for (Map.Entry<String, String> entry : MISSING_BY_CONSTRAINT.entrySet()) {
+            if (constraint.contains(entry.getKey())) return entry.getValue();
+        }
+        if (rawMessage == null) return null;
+        Matcher m = FK_REFERENCE.matcher(rawMessage.toLowerCase().replace("`", "").replace("\"", ""));
+        return m.find() ? MISSING_BY_PARENT_TABLE.get(m.group(2)) : null;
+    }
 }
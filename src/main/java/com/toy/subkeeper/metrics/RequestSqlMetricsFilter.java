@@ -0,0 +1,78 @@
+package com.toy.subkeeper.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL 수/시간을 엔드포인트(uri 패턴) 태그로 기록
+ * 한 요청의 SQL 이 임계값을 넘으면 N+1 의심으로 경고 로그 + 카운터
+ * 응답 시간 히스토그램은 actuator 기본 http.server.requests 를 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+
+public class RequestSqlMetricsFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+
+    @Value("${metrics.sql.n-plus-one-threshold:20}")
+    private int nPlusOneThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStats stats = SqlStats.end();
+            record(request, stats);
+        }
+    }
+
+    // actuator 자체 요청은 제외
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    private void record(HttpServletRequest request, SqlStats stats) {
+        if (stats == null) return;
+        // 매핑되지 않은 경로는 하나로 묶어 태그 종류가 늘어나지 않게 함
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        String method = request.getMethod();
+
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("요청 하나에서 실행된 SQL 수")
+                .tags("uri", uri, "method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getCount());
+        Timer.builder("http.server.sql.time")
+                .description("요청 하나에서 SQL 실행에 쓴 시간")
+                .tags("uri", uri, "method", method)
+                .register(meterRegistry)
+                .record(stats.getNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getCount() > nPlusOneThreshold) {
+            meterRegistry.counter("http.server.sql.n_plus_one", "uri", uri, "method", method).increment();
+            log.warn("N+1 의심: {} {} 에서 SQL {}개 ({}ms)", method, uri, stats.getCount(),
+                    TimeUnit.NANOSECONDS.toMillis(stats.getNanos()));
+        }
+    }
+}
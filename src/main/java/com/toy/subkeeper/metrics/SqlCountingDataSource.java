@@ -0,0 +1,72 @@
+package com.toy.subkeeper.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 커넥션과 Statement 를 감싸서 execute* 호출마다 SqlStats 에 횟수와 시간을 기록
+ * batch 는 executeBatch 한 번을 한 문장으로 셈 (DB 왕복 기준)
+ */
+public class SqlCountingDataSource extends DelegatingDataSource {
+
+    public SqlCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                SqlCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    if (result instanceof CallableStatement cs) return wrap(cs, CallableStatement.class);
+                    if (result instanceof PreparedStatement ps) return wrap(ps, PreparedStatement.class);
+                    if (result instanceof Statement st) return wrap(st, Statement.class);
+                    return result;
+                });
+    }
+
+    private static Object wrap(Statement target, Class<? extends Statement> type) {
+        return Proxy.newProxyInstance(
+                SqlCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (!method.getName().startsWith("execute")) {
+                        return invoke(target, method, args);
+                    }
+                    long started = System.nanoTime();
+                    try {
+                        return invoke(target, method, args);
+                    } finally {
+                        SqlStats.record(System.nanoTime() - started);
+                    }
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
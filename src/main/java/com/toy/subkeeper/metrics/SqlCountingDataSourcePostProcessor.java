@@ -0,0 +1,26 @@
+package com.toy.subkeeper.metrics;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// 애플리케이션 DataSource("dataSource") 만 SQL 집계용으로 감쌈 (다른 래퍼보다 바깥에)
+@Component
+public class SqlCountingDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                && !(bean instanceof SqlCountingDataSource)) {
+            return new SqlCountingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
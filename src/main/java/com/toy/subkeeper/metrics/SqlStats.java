@@ -0,0 +1,41 @@
+package com.toy.subkeeper.metrics;
+
+/**
+ * 요청 하나(스레드) 동안 실행된 SQL 수와 시간
+ * begin() ~ end() 사이에만 집계하고, 범위 밖(스케쥴러 등)의 SQL 은 세지 않음
+ */
+public final class SqlStats {
+    private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+    private int count;
+    private long nanos;
+
+    private SqlStats() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new SqlStats());
+    }
+
+    public static SqlStats end() {
+        SqlStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    static void record(long elapsedNanos) {
+        SqlStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.count++;
+            stats.nanos += elapsedNanos;
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+}
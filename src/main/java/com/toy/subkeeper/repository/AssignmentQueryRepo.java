@@ -0,0 +1,20 @@
+package com.toy.subkeeper.repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 조건에 따라 JPQL 을 직접 조립하는 과제 조회 (AssignmentRepo 에 붙는 커스텀 fragment)
+ * ":x is null or ..." 식의 만능 쿼리 대신 넘어온 조건만 where 절에 넣어서 옵티마이저가 인덱스를 고르기 쉽게 함
+ */
+public interface AssignmentQueryRepo {
+    /**
+     * 대시보드 과제 칸, 학기 안의 과제를 마감일 순으로 (과목 조인 X, idx_assignment_sem_due 범위 스캔)
+     * subId, categories 는 null(또는 빈 리스트)이면 조건에서 빠짐
+     */
+    List<DashboardRow> findDashboardRows(Long semId, Long subId, Collection<Integer> categories);
+
+    record DashboardRow(Long assignId, Long subId, String assignName, Date dueDate, Integer category, Integer isComplete) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.toy.subkeeper.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+@RequiredArgsConstructor
+
+public class AssignmentQueryRepoImpl implements AssignmentQueryRepo {
+    private final EntityManager em;
+
+    @Override
+    public List<DashboardRow> findDashboardRows(Long semId, Long subId, Collection<Integer> categories) {
+        boolean bySubject = subId != null;
+        boolean byCategory = categories != null && !categories.isEmpty();
+
+        StringBuilder jpql = new StringBuilder("""
+                select a.id, a.subject.id, a.assignName, a.dueDate, a.category, a.isComplete
+                  from Assignment a
+                 where a.semId = :semId
+                """);
+        if (bySubject) jpql.append(" and a.subject.id = :subId");
+        if (byCategory) jpql.append(" and a.category in :categories");
+        jpql.append(" order by a.dueDate asc, a.id asc");
+
+        TypedQuery<Object[]> query = em.createQuery(jpql.toString(), Object[].class)
+                .setParameter("semId", semId);
+        if (bySubject) query.setParameter("subId", subId);
+        if (byCategory) query.setParameter("categories", categories);
+
+        return query.getResultList().stream()
+                .map(r -> new DashboardRow((Long) r[0], (Long) r[1], (String) r[2], (Date) r[3], (Integer) r[4], (Integer) r[5]))
+                .toList();
+    }
+}
@@ -1,49 +1,218 @@
 package com.toy.subkeeper.repository;
 
 import com.toy.subkeeper.domain.Assignment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.expression.spel.ast.Assign;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
-public interface AssignmentRepo extends CrudRepository<Assignment, Long> {
+public interface AssignmentRepo extends CrudRepository<Assignment, Long>, AssignmentQueryRepo {
+    // 임박 구간 [from, to) 에 들어온 미완료 과제를 id 구간 단위로 일괄 갱신 (chunk 마다 별도 트랜잭션)
+    @Transactional
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
            UPDATE Assignment a
               SET a.isComplete = 2
             WHERE a.isComplete = 0
-              AND a.dueDate BETWEEN :now AND :in24h
+              AND a.dueDate >= :from
+              AND a.dueDate < :to
+              AND a.id BETWEEN :minId AND :maxId
            """)
-    int markDueSoonZeroToTwo(@Param("now") Date now, @Param("in24h") Date in24h);
+    int markDueSoonZeroToTwo(@Param("from") Date from, @Param("to") Date to, @Param("minId") Long minId, @Param("maxId") Long maxId);
 
-    // Semester 기준으로 모든 Assignment 조회
+    // 갱신 대상 id 와 과목/학기만 (is_complete, due_date) 인덱스로 잘라서 조회 (엔티티 로딩 X)
     @Query("""
-            SELECT a
-              FROM Assignment a
-              JOIN a.subject sub
-              JOIN sub.semester sem
-             WHERE sem.id = :semId
-              and(:subId is null or sub.id = :subId)
-              and(:categories is null or a.category in :categories)
-             ORDER BY a.dueDate ASC
-             """)
-    List<Assignment> findAllBySemesterIdOrderByDueDateAsc(@Param("semId") Long semId, @Param("subId") Long subId, @Param("categories") List<Integer> categories);
+           SELECT a.id AS id, a.subject.id AS subId, a.semId AS semId
+             FROM Assignment a
+            WHERE a.isComplete = 0
+              AND a.dueDate >= :from
+              AND a.dueDate < :to
+              AND a.id > :afterId
+            ORDER BY a.id ASC
+           """)
+    List<DueSoonTargetView> findDueSoonTargets(@Param("from") Date from, @Param("to") Date to, @Param("afterId") Long afterId, Pageable pageable);
 
-    // 학기에 해당하는 모든 과제 (달력용)
+    // 타이머 휠에서 꺼낸 과제 중 실제로 임박(2)으로 바뀔 과제와 그 과목/학기 (캐시 무효화 범위)
     @Query("""
-           select a
+           SELECT a.id AS id, a.subject.id AS subId, a.semId AS semId
+             FROM Assignment a
+            WHERE a.isComplete = 0
+              AND a.dueDate >= :from
+              AND a.dueDate < :to
+              AND a.id IN :ids
+           """)
+    List<DueSoonTargetView> findDueSoonTargetsByIds(@Param("from") Date from, @Param("to") Date to, @Param("ids") Collection<Long> ids);
+
+    interface DueSoonTargetView {
+        Long getId();
+        Long getSubId();
+        Long getSemId();
+    }
+
+    // 타이머 휠에서 전환 시각이 지난 과제만 갱신 (그 사이 완료/마감일 변경된 과제는 제외)
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           UPDATE Assignment a
+              SET a.isComplete = 2
+            WHERE a.isComplete = 0
+              AND a.dueDate >= :from
+              AND a.dueDate < :to
+              AND a.id IN :ids
+           """)
+    int markDueSoonByIds(@Param("from") Date from, @Param("to") Date to, @Param("ids") Collection<Long> ids);
+
+    // 완료 상태 일괄 변경용, 상태 계산에 필요한 열만 (학기 id 도 과제에 있어 조인 X)
+    @Query("""
+           select a.id as id, a.dueDate as dueDate, a.isComplete as isComplete, a.category as category,
+                  a.subject.id as subId, a.semId as semId
+             from Assignment a
+            where a.id in :ids
+           """)
+    List<StateRowView> findStateRowsByIds(@Param("ids") Collection<Long> ids);
+
+    interface StateRowView {
+        Long getId();
+        Date getDueDate();
+        Integer getIsComplete();
+        Integer getCategory();
+        Long getSubId();
+        Long getSemId();
+    }
+
+    // 통계 카운터 재계산용, 학기의 과제에서 카운터 칸을 정하는 열만
+    @Query("""
+           select a.subject.id as subId, a.category as category, a.dueDate as dueDate, a.isComplete as isComplete
+             from Assignment a
+            where a.semId = :semId
+           """)
+    List<StatSourceView> findStatSourceBySemId(@Param("semId") Long semId);
+
+    interface StatSourceView {
+        Long getSubId();
+        Integer getCategory();
+        Date getDueDate();
+        Integer getIsComplete();
+    }
+
+    // 완료 상태 일괄 변경, 바꿀 상태별로 한 번씩
+    @Transactional
+    @Modifying
+    @Query("UPDATE Assignment a SET a.isComplete = :state WHERE a.id IN :ids")
+    int updateIsCompleteByIds(@Param("state") int state, @Param("ids") Collection<Long> ids);
+
+    // 과목/학기 삭제 시 과제를 불러오지 않고 한 번에 삭제 (자식부터)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Assignment a WHERE a.subject.id = :subId")
+    int bulkDeleteBySubId(@Param("subId") Long subId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Assignment a WHERE a.semId = :semId")
+    int bulkDeleteBySemId(@Param("semId") Long semId);
+
+    // 계산 모드 이관용, 저장된 상태별 id 조회
+    @Query("""
+           SELECT a.id
+             FROM Assignment a
+            WHERE a.isComplete = :state
+              AND a.id > :afterId
+            ORDER BY a.id ASC
+           """)
+    List<Long> findIdsByIsComplete(@Param("state") int state, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           UPDATE Assignment a
+              SET a.isComplete = 0
+            WHERE a.isComplete = 2
+              AND a.id BETWEEN :minId AND :maxId
+           """)
+    int resetDueSoonToZero(@Param("minId") Long minId, @Param("maxId") Long maxId);
+
+    // 타이머 휠 재구성용, 아직 임박 구간 밖의 미완료 과제 (id, 마감일만)
+    @Query("""
+           SELECT a.id AS id, a.dueDate AS dueDate
+             FROM Assignment a
+            WHERE a.isComplete = 0
+              AND a.dueDate >= :from
+           """)
+    List<DueDateView> findIncompleteDueFrom(@Param("from") Date from);
+
+    interface DueDateView {
+        Long getId();
+        Date getDueDate();
+    }
+
+    // 학기에 해당하는 모든 과제 (달력용, 필요한 열만)
+    // 학기 조건은 과제의 sem_id 로 걸어서 idx_assignment_sem_due 순서대로 읽고 과목은 PK 로 과목명만 붙임
+    @Query("""
+           select a.id as assignId, s.id as subId, s.subName as subName, a.dueDate as dueDate,
+                  a.assignName as assignName, a.category as category
              from Assignment a
              join a.subject s
-             join s.semester sem
-            where sem.id = :semId
+            where a.semId = :semId
             order by a.dueDate asc, a.id asc
            """)
-    List<Assignment> findAllBySemesterIdOrderByDueDate(@Param("semId") Long semId);
+    List<CalendarRowView> findCalendarRows(@Param("semId") Long semId);
+
+    /**
+     * 달력 한 화면(기간) 분량만, (dueDate, id) 기준 keyset 페이지
+     * 첫 페이지는 afterDue 를 기간 시작 직전, afterId 를 0 으로 넘김
+     */
+    @Query("""
+           select a.id as assignId, s.id as subId, s.subName as subName, a.dueDate as dueDate,
+                  a.assignName as assignName, a.category as category
+             from Assignment a
+             join a.subject s
+            where a.semId = :semId
+              and a.dueDate >= :from
+              and a.dueDate < :to
+              and (a.dueDate > :afterDue or (a.dueDate = :afterDue and a.id > :afterId))
+            order by a.dueDate asc, a.id asc
+           """)
+    List<CalendarRowView> findCalendarRowsInWindow(@Param("semId") Long semId,
+                                                   @Param("from") Date from, @Param("to") Date to,
+                                                   @Param("afterDue") Date afterDue, @Param("afterId") Long afterId,
+                                                   Pageable pageable);
+
+    // 증분 동기화용, 학기 안의 지정한 과제만
+    @Query("""
+           select a.id as assignId, s.id as subId, s.subName as subName, a.dueDate as dueDate,
+                  a.assignName as assignName, a.category as category
+             from Assignment a
+             join a.subject s
+            where a.semId = :semId
+              and a.id in :ids
+            order by a.dueDate asc, a.id asc
+           """)
+    List<CalendarRowView> findCalendarRowsByIds(@Param("semId") Long semId, @Param("ids") Collection<Long> ids);
+
+    // 과목(학기 id 포함)까지 한 번에, 수정/삭제 시 학기를 알기 위함
+    @Query("""
+           select a
+             from Assignment a
+             join fetch a.subject s
+            where a.id = :assignId
+           """)
+    Optional<Assignment> findByIdWithSubject(@Param("assignId") Long assignId);
 
-    List<Assignment> findAllByIsComplete(Integer isComplete);
+    interface CalendarRowView {
+        Long getAssignId();
+        Long getSubId();
+        String getSubName();
+        Date getDueDate();
+        String getAssignName();
+        Integer getCategory();
+    }
 }
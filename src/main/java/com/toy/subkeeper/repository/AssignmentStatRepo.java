@@ -0,0 +1,68 @@
+package com.toy.subkeeper.repository;
+
+import com.toy.subkeeper.domain.AssignmentStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AssignmentStatRepo extends JpaRepository<AssignmentStat, AssignmentStat.Key> {
+    // 카운터 증감, 없는 칸이면 그 값으로 생성 (같은 칸을 동시에 바꿔도 행 잠금 하나로 끝남)
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO assignment_stat (sub_id, category, due_day, sem_id, total, completed)
+            VALUES (:subId, :category, :dueDay, :semId, :total, :completed)
+            ON DUPLICATE KEY UPDATE total = total + :total, completed = completed + :completed
+            """, nativeQuery = true)
+    int upsert(@Param("subId") Long subId, @Param("category") int category, @Param("dueDay") int dueDay,
+               @Param("semId") Long semId, @Param("total") int total, @Param("completed") int completed);
+
+    // 학기 통계, 학기의 칸만 (sem_id, due_day) 인덱스로
+    @Query("""
+            SELECT s.id.subId AS subId, s.id.category AS category, s.id.dueDay AS dueDay,
+                   s.total AS total, s.completed AS completed
+              FROM AssignmentStat s
+             WHERE s.semId = :semId
+            """)
+    List<StatRowView> findRowsBySemId(@Param("semId") Long semId);
+
+    // 사이드바 배지, 학기별 미완료 / 기한이 지난 미완료 수
+    @Query("""
+            SELECT s.semId AS semId,
+                   SUM(s.total - s.completed) AS incomplete,
+                   SUM(CASE WHEN s.id.dueDay < :today THEN s.total - s.completed ELSE 0 END) AS overdue
+              FROM AssignmentStat s
+             WHERE s.semId IN :semIds
+             GROUP BY s.semId
+            """)
+    List<BadgeView> findBadgesBySemIds(@Param("semIds") Collection<Long> semIds, @Param("today") int today);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AssignmentStat s WHERE s.id.subId = :subId")
+    int deleteBySubId(@Param("subId") Long subId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AssignmentStat s WHERE s.semId = :semId")
+    int deleteBySemId(@Param("semId") Long semId);
+
+    interface StatRowView {
+        Long getSubId();
+        int getCategory();
+        int getDueDay();
+        int getTotal();
+        int getCompleted();
+    }
+
+    interface BadgeView {
+        Long getSemId();
+        Long getIncomplete();
+        Long getOverdue();
+    }
+}
@@ -0,0 +1,56 @@
+package com.toy.subkeeper.repository;
+
+import com.toy.subkeeper.domain.CalendarChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+public interface CalendarChangeRepo extends JpaRepository<CalendarChange, Long> {
+    // 학기의 토큰 이후 변경 기록
+    List<CalendarChange> findBySemIdAndIdGreaterThanOrderByIdAsc(Long semId, Long id);
+
+    // 확정된(일정 시간이 지난) 기록 중 가장 최근 id
+    @Query("SELECT MAX(c.id) FROM CalendarChange c WHERE c.changedAt <= :before")
+    Long findLatestIdChangedBefore(@Param("before") Date before);
+
+    @Query("SELECT MIN(c.id) FROM CalendarChange c")
+    Long findOldestId();
+
+    @Query("SELECT MAX(c.id) FROM CalendarChange c")
+    Long findLatestId();
+
+    // 과제 일괄 생성 기록 (과제 insert 가 먼저 flush 된 뒤 실행됨)
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO calendar_change (sem_id, assign_id, change_type, changed_at)
+            SELECT :semId, a.id, 0, :changedAt
+              FROM assignment a
+             WHERE a.id IN :assignIds
+            """, nativeQuery = true)
+    int insertCreated(@Param("semId") Long semId, @Param("assignIds") Collection<Long> assignIds, @Param("changedAt") Date changedAt);
+
+    // 과목 삭제 시 그 과목의 과제 전부를 삭제로 기록 (과제를 불러오지 않고 한 번에)
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO calendar_change (sem_id, assign_id, change_type, changed_at)
+            SELECT s.sem_id, a.id, 2, :changedAt
+              FROM assignment a
+              JOIN subject s ON s.id = a.sub_id
+             WHERE a.sub_id = :subId
+            """, nativeQuery = true)
+    int insertDeletedForSubject(@Param("subId") Long subId, @Param("changedAt") Date changedAt);
+
+    // 오래된 기록 정리, 토큰 유효성 판단을 위해 가장 최근 기록 하나는 남김
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CalendarChange c WHERE c.changedAt < :before AND c.id < :latestId")
+    int deleteChangedBefore(@Param("before") Date before, @Param("latestId") Long latestId);
+}
@@ -1,16 +1,19 @@
 package com.toy.subkeeper.repository;
 
 import com.toy.subkeeper.domain.Semester;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface SemesterRepo extends JpaRepository<Semester, Long> {
-    boolean existsByUser_IdAndSemName(Long userId, String semName);
-
     // 과도한 fetch join 방지를 위한 Semester + User 로드 단계
     @Query("""
             SELECT s
@@ -20,9 +23,71 @@ public interface SemesterRepo extends JpaRepository<Semester, Long> {
             """)
     Optional<Semester> findByIdWithUser(@Param("semId") Long semId);
 
-    // 사용자가 가진 학기수
-    List<Semester> findByUser_IdOrderByIdDesc(Long userId);
+    // 대시보드 사이드바 + 상단 사용자 정보, 사용자의 학기 목록을 최신순으로 (엔티티 로딩 X)
+    @Query("""
+            SELECT s.id AS semId, s.semName AS semName, u.id AS userId, u.userName AS userName
+              FROM Semester s
+              JOIN s.user u
+             WHERE u.id = :userId
+             ORDER BY s.id DESC
+            """)
+    List<SemesterMenuView> findMenuByUserId(@Param("userId") Long userId);
+
+    // 대시보드 ETag 용, 사용자의 학기 목록과 각 학기의 revision
+    @Query("""
+            SELECT s.id AS semId, s.revision AS revision
+              FROM Semester s
+             WHERE s.user.id = :userId
+             ORDER BY s.id DESC
+            """)
+    List<RevisionView> findRevisionsByUserId(@Param("userId") Long userId);
+
+    // 달력 ETag 용
+    @Query("SELECT s.revision FROM Semester s WHERE s.id = :semId")
+    Optional<Long> findRevisionById(@Param("semId") Long semId);
+
+    // 학기 안의 과목/과제 변경 시 revision 증가
+    @Transactional
+    @Modifying
+    @Query("UPDATE Semester s SET s.revision = s.revision + 1, s.modifiedAt = CURRENT_TIMESTAMP WHERE s.id = :semId")
+    int bumpRevision(@Param("semId") Long semId);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE Semester s
+               SET s.revision = s.revision + 1, s.modifiedAt = CURRENT_TIMESTAMP
+             WHERE s.id = (SELECT sub.semester.id FROM Subject sub WHERE sub.id = :subId)
+            """)
+    int bumpRevisionBySubject(@Param("subId") Long subId);
 
     // 사용자의 학기 수 중 가장 최근 학기 (맨 처음 대시보드)
     Optional<Semester> findTopByUser_IdOrderByIdDesc(Long userId);
+
+    interface RevisionView {
+        Long getSemId();
+        long getRevision();
+    }
+
+    interface SemesterMenuView {
+        Long getSemId();
+        String getSemName();
+        Long getUserId();
+        String getUserName();
+    }
+
+    // 통계 카운터 재계산, 학기 id 를 id 순으로 잘라서
+    @Query("SELECT s.id FROM Semester s WHERE s.id > :afterId ORDER BY s.id ASC")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 재계산 중 같은 학기의 과제 변경(revision 증가)이 끼어들지 않도록 학기 행을 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Semester s WHERE s.id = :semId")
+    Optional<Semester> findByIdForUpdate(@Param("semId") Long semId);
+
+    // 과목, 과제를 먼저 지운 뒤 호출, 영속성 컨텍스트에 남은 학기는 비움
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Semester s WHERE s.id = :semId")
+    int bulkDeleteById(@Param("semId") Long semId);
 }
@@ -2,12 +2,44 @@ package com.toy.subkeeper.repository;
 
 import com.toy.subkeeper.domain.Subject;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface SubjectRepo extends JpaRepository<Subject, Long> {
-    boolean existsBySemester_IdAndSubName(Long semId, String subName);
+    @Query("SELECT s.semester.id FROM Subject s WHERE s.id = :subId")
+    Optional<Long> findSemIdById(@Param("subId") Long subId);
 
-    // 학기와 과제 관계성
-    List<Subject> findBySemester_Id(Long semId);
+    // 과제를 먼저 지운 뒤 호출, 영속성 컨텍스트에 남은 과목은 비움
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Subject s WHERE s.id = :subId")
+    int bulkDeleteById(@Param("subId") Long subId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Subject s WHERE s.semester.id = :semId")
+    int bulkDeleteBySemId(@Param("semId") Long semId);
+
+    // 일괄 생성용, 과목과 학기를 한 번에
+    @Query("SELECT s FROM Subject s JOIN FETCH s.semester WHERE s.id IN :ids")
+    List<Subject> findAllWithSemesterByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 과제 생성/이동용, 학기까지 한 번에 (과제에 학기/유저 id 를 같이 저장하기 위함)
+    @Query("SELECT s FROM Subject s JOIN FETCH s.semester WHERE s.id = :subId")
+    Optional<Subject> findByIdWithSemester(@Param("subId") Long subId);
+
+    // 대시보드 과목 칸, 과제 필터와 상관없이 학기의 모든 과목 (sem_id, sub_name) 유니크 인덱스만 읽음
+    @Query("SELECT s.id AS subId, s.subName AS subName FROM Subject s WHERE s.semester.id = :semId ORDER BY s.id ASC")
+    List<SubjectRowView> findSubjectRowsBySemId(@Param("semId") Long semId);
+
+    interface SubjectRowView {
+        Long getSubId();
+        String getSubName();
+    }
 }
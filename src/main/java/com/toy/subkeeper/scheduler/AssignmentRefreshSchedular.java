@@ -1,11 +1,19 @@
 package com.toy.subkeeper.scheduler;
 
+import com.toy.subkeeper.cache.DashboardCache;
 import com.toy.subkeeper.service.AssignmentService;
+import com.toy.subkeeper.service.AssignmentStatService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.function.IntSupplier;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -13,10 +21,66 @@ import org.springframework.stereotype.Component;
 // 서울 기준
 public class AssignmentRefreshSchedular {
     private final AssignmentService assignmentService;
+    private final AssignmentStatService assignmentStatService;
+    private final DashboardCache dashboardCache;
+    private final MeterRegistry meterRegistry;
 
-    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
-    public void refreshDailyAtMidnightKST(){
+    // 서버 시작 시 임박 상태를 맞추고 타이머 휠 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildWheelOnStartup() {
+        timed("rebuildWheel", () -> {
+            assignmentService.rebuildDueSoonWheel();
+            return 0;
+        });
+    }
+
+    // 타이머 휠 틱, 전환 시각이 지난 과제를 작은 batch 로 반영
+    @Scheduled(fixedDelayString = "${assignment.wheel.tick-millis:10000}")
+    public void flushDueSoonWheel() {
+        int flushed = timed("flushWheel", assignmentService::flushDueSoonFromWheel);
+        meterRegistry.counter("scheduler.updated", "task", "flushWheel").increment(flushed);
+    }
+
+    // 하루 한 번 누락분 보정 (주 경로는 타이머 휠이라 자정을 피해 새벽에 실행)
+    @Scheduled(cron = "${assignment.refresh.cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void refreshDailyKST(){
         log.info("과제 완료 상태 갱신 스케쥴러 실행");
-        assignmentService.refreshZeroToTwoForDueSoon();
+        long started = System.currentTimeMillis();
+        try {
+            int updated = timed("refreshDaily", assignmentService::refreshZeroToTwoForDueSoon);
+            meterRegistry.counter("scheduler.updated", "task", "refreshDaily").increment(updated);
+            log.info("과제 완료 상태 갱신 완료: {}건, {}ms", updated, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("과제 완료 상태 갱신 실패", e);
+        }
+
+        // 같은 시각에 통계 카운터도 과제 테이블 기준으로 다시 맞춤 (위 갱신의 성공 여부와 상관없이)
+        started = System.currentTimeMillis();
+        try {
+            int semesters = timed("reconcileStats", assignmentStatService::reconcileAll);
+            log.info("과제 통계 카운터 재계산 완료: 학기 {}개, {}ms", semesters, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("과제 통계 카운터 재계산 실패", e);
+        }
+    }
+
+    // 자정이 지나면 계산 모드의 임박 여부가 바뀌므로 대시보드 캐시를 비움
+    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
+    public void evictDashboardsAtMidnightKST() {
+        log.info("자정 대시보드 캐시 초기화: {}건", dashboardCache.size());
+        dashboardCache.evictAll();
+    }
+
+    // 실행 시간을 성공/실패(outcome)로 나눠 기록, 예외는 그대로 던짐
+    private int timed(String task, IntSupplier work) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            int result = work.getAsInt();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(meterRegistry.timer("scheduler.run", "task", task, "outcome", outcome));
+        }
     }
 }
@@ -0,0 +1,33 @@
+package com.toy.subkeeper.scheduler;
+
+import com.toy.subkeeper.service.CalendarChangeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+
+// 서울 기준
+public class CalendarChangeSchedular {
+    private final CalendarChangeService calendarChangeService;
+    private final MeterRegistry meterRegistry;
+
+    // 매일 새벽 오래된 달력 변경 기록 정리
+    @Scheduled(cron = "${calendar.sync.compact-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void compactDailyKST() {
+        log.info("달력 변경 기록 정리 스케쥴러 실행");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure"; // 같은 이름의 타이머는 태그 키가 같아야 함 (AssignmentRefreshSchedular 와 맞춤)
+        try {
+            calendarChangeService.compact();
+            outcome = "success";
+        } finally {
+            sample.stop(meterRegistry.timer("scheduler.run", "task", "compactCalendarChanges", "outcome", outcome));
+        }
+    }
+}
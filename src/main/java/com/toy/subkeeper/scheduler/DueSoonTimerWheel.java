@@ -0,0 +1,154 @@
+package com.toy.subkeeper.scheduler;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 과제별 임박 전환 시각(KST 마감일 23:59:59.999 - 48h)을 관리하는 계층형 타이머 휠
+ * 1분 x 64칸의 바닥 휠 위로 64배씩 넓어지는 상위 휠을 필요할 때 붙이고,
+ * 상위 휠의 칸은 시작 시각이 되면 바닥 휠로 내려보낸다
+ * 취소는 deadlines 에서만 지우고, 버킷에 남은 항목은 꺼낼 때 걸러낸다
+ */
+@Component
+public class DueSoonTimerWheel {
+    private static final long TICK_MILLIS = 60_000L; // 1분
+    private static final int WHEEL_SIZE = 64;
+
+    private final Map<Long, Long> deadlines = new HashMap<>(); // assignId -> 전환 시각
+    private final ArrayDeque<Long> expired = new ArrayDeque<>(); // 전환 시각이 지나 반영을 기다리는 과제
+    private Level root;
+
+    public DueSoonTimerWheel() {
+        reset(System.currentTimeMillis());
+    }
+
+    // 휠 비우기 (재구성 시작 시)
+    public synchronized void reset(long now) {
+        deadlines.clear();
+        expired.clear();
+        root = new Level(TICK_MILLIS, now);
+    }
+
+    // 등록, 이미 등록된 과제면 전환 시각 교체
+    public synchronized void schedule(Long assignId, long fireAt) {
+        deadlines.put(assignId, fireAt);
+        place(assignId, fireAt);
+    }
+
+    public synchronized void cancel(Long assignId) {
+        deadlines.remove(assignId);
+    }
+
+    // now 까지 휠을 돌려 전환 시각이 지난 과제를 expired 로 옮김
+    public synchronized void advance(long now) {
+        root.advance(now);
+    }
+
+    // 반영 대기 중인 과제를 최대 max 개 꺼냄
+    public synchronized List<Long> poll(int max) {
+        List<Long> ids = new ArrayList<>(Math.min(max, expired.size()));
+        while (ids.size() < max && !expired.isEmpty()) {
+            ids.add(expired.poll());
+        }
+        return ids;
+    }
+
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    public synchronized int pending() {
+        return expired.size();
+    }
+
+    // 전환 시각이 이미 지났으면 바로 만료, 아니면 그 시각을 담을 수 있는 가장 낮은 휠에 배치
+    private void place(Long assignId, long fireAt) {
+        if (fireAt < root.currentTime) {
+            deadlines.remove(assignId);
+            expired.add(assignId);
+            return;
+        }
+        root.add(assignId, fireAt);
+    }
+
+    // 꺼낸 항목이 취소/교체되지 않은 최신 등록인지
+    private boolean isLive(Long assignId, Long fireAt) {
+        return fireAt.equals(deadlines.get(assignId));
+    }
+
+    private final class Level {
+        private final long tickMillis;
+        private final long interval;
+        private final List<Map<Long, Long>> buckets = new ArrayList<>(WHEEL_SIZE);
+        private long currentTime; // 현재 칸의 시작 시각
+        private Level overflow;
+
+        private Level(long tickMillis, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.interval = tickMillis * WHEEL_SIZE;
+            this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                buckets.add(new HashMap<>());
+            }
+        }
+
+        // 호출 전에 지난 시각은 걸러짐 (fireAt >= root.currentTime)
+        // 상위 휠의 현재 시각은 항상 바닥 휠 현재 시각을 자기 칸 크기로 내림한 값이라,
+        // 여기까지 올라온 시각은 이 휠의 현재 칸 이후에 떨어지고 범위를 넘으면 더 위로 올림
+        private void add(Long assignId, long fireAt) {
+            if (fireAt < currentTime + interval) {
+                bucketOf(fireAt).put(assignId, fireAt);
+                return;
+            }
+            if (overflow == null) {
+                overflow = new Level(interval, currentTime);
+            }
+            overflow.add(assignId, fireAt);
+        }
+
+        // 바닥 휠: 칸이 끝나면 그 칸의 과제를 만료 처리
+        private void advance(long now) {
+            while (currentTime + tickMillis <= now) {
+                Map<Long, Long> bucket = bucketOf(currentTime);
+                currentTime += tickMillis;
+                drain(bucket, true);
+                if (overflow != null) overflow.cascade(currentTime);
+            }
+        }
+
+        // 상위 휠: 칸이 현재 칸이 되면(시작 시각 도달) 그 칸의 과제를 아래 휠로 다시 배치
+        private void cascade(long now) {
+            while (currentTime + tickMillis <= now) {
+                currentTime += tickMillis;
+                drain(bucketOf(currentTime), false);
+            }
+            if (overflow != null) overflow.cascade(now);
+        }
+
+        // 재배치는 place 로 다시 넣으므로 지난 시각일 때만 만료되고, 담을 휠이 없어 버려지는 항목은 없음
+        private void drain(Map<Long, Long> bucket, boolean expire) {
+            if (bucket.isEmpty()) return;
+            List<Map.Entry<Long, Long>> entries = new ArrayList<>(bucket.entrySet());
+            bucket.clear();
+            for (Map.Entry<Long, Long> e : entries) {
+                if (!isLive(e.getKey(), e.getValue())) continue;
+
+                if (expire) {
+                    deadlines.remove(e.getKey());
+                    expired.add(e.getKey());
+                } else {
+                    place(e.getKey(), e.getValue());
+                }
+            }
+        }
+
+        private Map<Long, Long> bucketOf(long time) {
+            return buckets.get((int) Math.floorMod(time / tickMillis, (long) WHEEL_SIZE));
+        }
+    }
+}
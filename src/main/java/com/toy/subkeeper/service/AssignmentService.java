@@ -1,20 +1,36 @@
 package com.toy.subkeeper.service;
 
 import com.toy.subkeeper.DTO.AssignmentDto;
+import com.toy.subkeeper.cache.DashboardCache;
 import com.toy.subkeeper.domain.Assignment;
+import com.toy.subkeeper.event.DomainEvent;
+import com.toy.subkeeper.event.DomainEventType;
 import com.toy.subkeeper.repository.AssignmentRepo;
+import com.toy.subkeeper.repository.SemesterRepo;
 import com.toy.subkeeper.domain.Subject;
 import com.toy.subkeeper.repository.SubjectRepo;
+import com.toy.subkeeper.scheduler.DueSoonTimerWheel;
+import com.toy.subkeeper.util.KstTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.expression.spel.ast.Assign;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Instant;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -23,12 +39,42 @@ import java.util.Date;
 public class AssignmentService {
     private final AssignmentRepo assignmentRepo;
     private final SubjectRepo subjectRepo;
+    private final SemesterRepo semesterRepo;
+    private final DueSoonTimerWheel dueSoonTimerWheel;
+    private final DueSoonPolicy dueSoonPolicy;
+    private final DashboardCache dashboardCache;
+    private final CalendarChangeService calendarChangeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AssignmentStatService assignmentStatService;
+
+    // 자정 리프레시 시 한 번에 갱신할 최대 과제 수
+    @Value("${assignment.refresh.chunk-size:1000}")
+    private int refreshChunkSize;
+
+    // 타이머 휠 틱마다 반영할 batch 크기와 개수
+    @Value("${assignment.wheel.batch-size:200}")
+    private int wheelBatchSize;
+
+    @Value("${assignment.wheel.max-batches-per-tick:5}")
+    private int wheelMaxBatchesPerTick;
+
+    // 일괄 생성 한 번에 받을 최대 과제 수
+    @Value("${assignment.bulk.max-size:500}")
+    private int bulkMaxSize;
+
+    // 응답에 내려줄 과제 상태 (계산 모드면 지금 기준으로 임박 여부 계산)
+    public int displayState(Assignment a) {
+        return dueSoonPolicy.displayState(a.getIsComplete(), a.getDueDate(), System.currentTimeMillis());
+    }
 
     // 과제 생성
+    @Transactional
     public Assignment createAssignment(Long subId, AssignmentDto.AssignmentCreateReqDto reqDto) {
-        // SubId 조회
-        Subject subject = subjectRepo.findById(subId)
+        // SubId 조회 (학기까지, 과제에 학기/유저 id 를 같이 저장)
+        Subject subject = subjectRepo.findByIdWithSemester(subId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 과목입니다."));
+        Long semId = subject.getSemester().getId();
+        semesterRepo.bumpRevision(semId); // 학기 행 잠금을 통계 upsert 보다 먼저 (재계산과 같은 순서)
 
         // 새로운 과제 생성
         Assignment assignment = new Assignment(
@@ -36,25 +82,126 @@ public class AssignmentService {
                 reqDto.getDueDate(),
                 reqDto.getCategory(),
                 subject,
-                0
+                dueSoonState(reqDto.getDueDate()) // 생성 시점에 바로 임박 여부 반영
         );
         assignmentRepo.save(assignment);
-
-        log.info("과제 생성: {} (id= {})", assignment.getAssignName(), assignment.getId());
+        assignmentStatService.added(assignment);
+        scheduleDueSoon(assignment);
+        calendarChangeService.record(semId, assignment.getId(), CalendarChangeService.CREATED);
+        eventPublisher.publishEvent(DomainEvent.builder()
+                .type(DomainEventType.ASSIGNMENT_CREATED)
+                .semId(semId).subId(subId).assignId(assignment.getId())
+                .state(assignment.getIsComplete()).count(1).name(assignment.getAssignName())
+                .dueDate(assignment.getDueDate()).category(assignment.getCategory())
+                .build());
 
         return assignment;
     }
 
+    /**
+     * 과제 일괄 생성 (강의계획서 붙여넣기 등)
+     * subId 가 있으면 모든 항목을 그 과목에, 없으면 항목마다의 subId 로 생성
+     * 과목은 한 번에 조회하고, 과제는 시퀀스 id + JDBC batch 로 insert,
+     * 학기별 revision/달력 기록은 학기마다 한 번씩만
+     */
+    @Transactional
+    public List<Assignment> createAssignments(Long subId, List<AssignmentDto.AssignmentCreateReqDto> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("생성할 과제가 없습니다.");
+        }
+        if (items.size() > bulkMaxSize) {
+            throw new IllegalArgumentException("한 번에 최대 " + bulkMaxSize + "개까지 생성할 수 있습니다.");
+        }
+
+        // 입력 검증을 먼저 끝내서 중간에 실패해도 아무것도 쓰지 않음
+        Set<Long> subIds = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            AssignmentDto.AssignmentCreateReqDto item = items.get(i);
+            String prefix = (i + 1) + "번째 과제 : ";
+            if (item == null) throw new IllegalArgumentException(prefix + "내용이 없습니다.");
+            if (item.getAssignName() == null || item.getAssignName().isBlank()) {
+                throw new IllegalArgumentException(prefix + "과제명을 적어주세요.");
+            }
+            if (item.getAssignName().trim().length() > 50) {
+                throw new IllegalArgumentException(prefix + "과제명은 50자 이하로 적어주세요.");
+            }
+            if (item.getDueDate() == null) throw new IllegalArgumentException(prefix + "마감일을 적어주세요.");
+            if (item.getCategory() < 0 || item.getCategory() > 2) {
+                throw new IllegalArgumentException(prefix + "카테고리는 0 ~ 2 입니다.");
+            }
+            Long targetSubId = (subId != null) ? subId : item.getSubId();
+            if (targetSubId == null) throw new IllegalArgumentException(prefix + "과목을 선택해주세요.");
+            subIds.add(targetSubId);
+        }
+
+        Map<Long, Subject> subjects = subjectRepo.findAllWithSemesterByIdIn(subIds).stream()
+                .collect(Collectors.toMap(Subject::getId, Function.identity()));
+        if (subjects.size() != subIds.size()) {
+            throw new IllegalArgumentException("존재하지 않는 과목입니다.");
+        }
+        // 학기 행 잠금을 통계 upsert 보다 먼저, 여러 학기면 id 순으로
+        subjects.values().stream()
+                .map(s -> s.getSemester().getId())
+                .collect(Collectors.toCollection(TreeSet::new))
+                .forEach(semesterRepo::bumpRevision);
+
+        List<Assignment> assignments = new ArrayList<>(items.size());
+        for (AssignmentDto.AssignmentCreateReqDto item : items) {
+            Subject subject = subjects.get((subId != null) ? subId : item.getSubId());
+            assignments.add(new Assignment(
+                    item.getAssignName().trim(),
+                    item.getDueDate(),
+                    item.getCategory(),
+                    subject,
+                    dueSoonState(item.getDueDate())
+            ));
+        }
+        assignmentRepo.saveAll(assignments);
+
+        // 학기별로 묶어서 revision, 달력 기록 (통계 카운터는 칸별로 한 번씩)
+        Map<Long, List<Long>> idsBySem = new LinkedHashMap<>();
+        AssignmentStatService.Delta statDelta = new AssignmentStatService.Delta();
+        for (Assignment assignment : assignments) {
+            scheduleDueSoon(assignment);
+            statDelta.add(assignment.getSemId(), assignment.getSubject().getId(), assignment.getCategory(),
+                    assignment.getDueDate(), 1, assignment.getIsComplete() == 1 ? 1 : 0);
+            idsBySem.computeIfAbsent(assignment.getSubject().getSemester().getId(), k -> new ArrayList<>())
+                    .add(assignment.getId());
+        }
+        assignmentStatService.apply(statDelta);
+        idsBySem.forEach(calendarChangeService::recordCreated);
+        // 과목마다 한 건씩 (개수만)
+        Map<Long, Integer> countBySub = new LinkedHashMap<>();
+        assignments.forEach(a -> countBySub.merge(a.getSubject().getId(), 1, Integer::sum));
+        countBySub.forEach((id, count) -> eventPublisher.publishEvent(DomainEvent.builder()
+                .type(DomainEventType.ASSIGNMENT_CREATED)
+                .semId(subjects.get(id).getSemester().getId()).subId(id).count(count)
+                .build()));
+
+        return assignments;
+    }
+
     // 과제 수정
     @Transactional
     public Assignment updateAssignment(Long assignmentId, AssignmentDto.AssignmentUpdateReqDto reqDto) {
-        Assignment assignment = assignmentRepo.findById(assignmentId)
+        Assignment assignment = assignmentRepo.findByIdWithSubject(assignmentId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 과제입니다."));
 
+        Long oldSubId = assignment.getSubject().getId();
+        Long oldSemId = assignment.getSubject().getSemester().getId();
+        Long newSemId = oldSemId;
+        int oldCategory = assignment.getCategory();
+        Date oldDueDate = assignment.getDueDate();
+        Subject newSubject = null;
         if(reqDto.getSubId() != null) {
-            Subject subject = subjectRepo.findById(reqDto.getSubId())
+            newSubject = subjectRepo.findByIdWithSemester(reqDto.getSubId())
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 과목입니다."));
-            assignment.setSubject(subject);
+            newSemId = newSubject.getSemester().getId();
+        }
+        // 다른 학기로 옮기면 양쪽 모두, 학기 행 잠금은 통계 upsert 보다 먼저 id 순으로
+        new TreeSet<>(List.of(oldSemId, newSemId)).forEach(semesterRepo::bumpRevision);
+        if (newSubject != null) {
+            assignment.setSubject(newSubject);
         }
         if(reqDto.getAssignName() != null) {
             String name = reqDto.getAssignName().trim();
@@ -63,22 +210,56 @@ public class AssignmentService {
         }
         if(reqDto.getDueDate() != null) {
             assignment.setDueDate(reqDto.getDueDate());
+            // 마감일이 바뀌면 완료가 아닌 과제의 임박 여부를 다시 계산
+            if (!dueSoonPolicy.isDerived() && assignment.getIsComplete() != 1) {
+                assignment.setIsComplete(dueSoonState(assignment.getDueDate()));
+            }
+            scheduleDueSoon(assignment);
         }
         assignment.setCategory(reqDto.getCategory());
 
-        log.info("과제 수정: {} (id= {})", assignment.getAssignName(), assignment.getId());
+        // 통계 칸(과목, 카테고리, 마감일)이 바뀐 경우에만 옮김
+        if (!assignment.getSubject().getId().equals(oldSubId) || assignment.getCategory() != oldCategory
+                || KstTime.epochDay(assignment.getDueDate().getTime()) != KstTime.epochDay(oldDueDate.getTime())) {
+            int completed = assignment.getIsComplete() == 1 ? 1 : 0;
+            assignmentStatService.add(oldSemId, oldSubId, oldCategory, oldDueDate, -1, -completed);
+            assignmentStatService.added(assignment);
+        }
+
+        // 다른 학기의 과목으로 옮겨졌으면 달력 기준으로는 삭제 + 생성
+        if (newSemId.equals(oldSemId)) {
+            calendarChangeService.record(oldSemId, assignment.getId(), CalendarChangeService.UPDATED);
+        } else {
+            calendarChangeService.record(oldSemId, assignment.getId(), CalendarChangeService.DELETED);
+            calendarChangeService.record(newSemId, assignment.getId(), CalendarChangeService.CREATED);
+        }
+
+        eventPublisher.publishEvent(DomainEvent.builder()
+                .type(DomainEventType.ASSIGNMENT_UPDATED)
+                .semId(newSemId).subId(assignment.getSubject().getId()).prevSubId(oldSubId)
+                .assignId(assignment.getId()).state(assignment.getIsComplete()).count(1)
+                .name(assignment.getAssignName())
+                .dueDate(assignment.getDueDate()).category(assignment.getCategory())
+                .build());
         return assignment;
     }
 
     // 과제 삭제
     @Transactional
     public void deleteAssignment(Long assignmentId) {
-        Assignment assignment = assignmentRepo.findById(assignmentId)
+        Assignment assignment = assignmentRepo.findByIdWithSubject(assignmentId)
                         .orElseThrow(() -> new RuntimeException("과제를 찾을 수 없습니다."));
 
-        log.info("과제 삭제: (id= {})", assignment.getId());
-
+        Long semId = assignment.getSubject().getSemester().getId();
+        semesterRepo.bumpRevision(semId); // 학기 행 잠금을 통계 upsert 보다 먼저
         assignmentRepo.deleteById(assignmentId);
+        assignmentStatService.removed(assignment);
+        dueSoonTimerWheel.cancel(assignmentId);
+        calendarChangeService.record(semId, assignmentId, CalendarChangeService.DELETED);
+        eventPublisher.publishEvent(DomainEvent.builder()
+                .type(DomainEventType.ASSIGNMENT_DELETED)
+                .semId(semId).subId(assignment.getSubject().getId()).assignId(assignmentId).count(1)
+                .build());
     }
 
     // 과제 완료 상태 변경
@@ -89,49 +270,241 @@ public class AssignmentService {
      */
     @Transactional
     public Assignment updateCompleteState(Long assignmentId, Integer state){
-        Assignment a = assignmentRepo.findById(assignmentId)
+        Assignment a = assignmentRepo.findByIdWithSubject(assignmentId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 과제입니다."));
 
+        Long semId = a.getSubject().getSemester().getId();
+        semesterRepo.bumpRevision(semId); // 학기 행 잠금을 통계 upsert 보다 먼저, 달력에는 완료 상태가 없어 변경 기록은 남기지 않음
+
         int base = (state != null && state == 1) ? 1 : 0; // 1이면 완료 고정
-        if (base == 0 && isDueWithin48HoursFromEod(a.getDueDate())) {
+        int wasCompleted = a.getIsComplete() == 1 ? 1 : 0;
+        if (base == 0 && dueSoonState(a.getDueDate()) == 2) {
             a.setIsComplete(2); // 임박
         } else {
             a.setIsComplete(base); // 미완료 또는 완료
         }
-        log.info("과제 완료상태 변경: id={}, isComplete={}", assignmentId, a.getIsComplete());
+        scheduleDueSoon(a);
+        assignmentStatService.add(a.getSemId(), a.getSubject().getId(), a.getCategory(), a.getDueDate(),
+                0, (a.getIsComplete() == 1 ? 1 : 0) - wasCompleted);
+        eventPublisher.publishEvent(DomainEvent.builder()
+                .type(DomainEventType.ASSIGNMENT_STATE_CHANGED)
+                .semId(semId).subId(a.getSubject().getId()).assignId(assignmentId)
+                .state(a.getIsComplete()).count(1)
+                .build());
         return a;
     }
 
-    private boolean isDueWithin48HoursFromEod(Date due){
-        if (due == null) return false;
-        Date dueEod = endOfDay(due);
+    /**
+     * 완료 상태 일괄 변경 (주말에 여러 과제를 한 번에 체크하는 경우)
+     * 필요한 열만 IN 한 번으로 읽고, 같은 시각(now) 기준으로 상태를 계산한 뒤
+     * 바뀌는 과제만 상태별로 묶어 UPDATE (최대 3번)
+     */
+    @Transactional
+    public AssignmentDto.AssignmentBulkStateUpdateResDto updateCompleteStates(List<AssignmentDto.AssignmentStateUpdateItem> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("변경할 과제가 없습니다.");
+        }
+        if (items.size() > bulkMaxSize) {
+            throw new IllegalArgumentException("한 번에 최대 " + bulkMaxSize + "개까지 변경할 수 있습니다.");
+        }
+
+        // 같은 과제가 여러 번 오면 마지막 요청 기준
+        Map<Long, Integer> requested = new LinkedHashMap<>();
+        for (AssignmentDto.AssignmentStateUpdateItem item : items) {
+            if (item == null || item.getAssignId() == null) throw new IllegalArgumentException("과제 ID 를 적어주세요.");
+            requested.put(item.getAssignId(), item.getIsComplete() == 1 ? 1 : 0);
+        }
+
+        Map<Long, AssignmentRepo.StateRowView> rows = assignmentRepo.findStateRowsByIds(requested.keySet()).stream()
+                .collect(Collectors.toMap(AssignmentRepo.StateRowView::getId, Function.identity()));
+
+        long now = System.currentTimeMillis();
+        Map<Integer, List<Long>> idsByState = new HashMap<>();
+        Set<Long> semIds = new HashSet<>();
+        Map<Long, Long> semBySub = new LinkedHashMap<>(); // 바뀐 과제가 있는 과목 -> 학기
+        Map<Long, Integer> changedBySub = new HashMap<>();
+        AssignmentStatService.Delta statDelta = new AssignmentStatService.Delta();
+        List<AssignmentDto.AssignmentStateUpdateResDto> updated = new ArrayList<>(rows.size());
+        List<Long> notFound = new ArrayList<>();
+
+        for (Map.Entry<Long, Integer> e : requested.entrySet()) {
+            AssignmentRepo.StateRowView row = rows.get(e.getKey());
+            if (row == null) {
+                notFound.add(e.getKey());
+                continue;
+            }
+
+            int base = e.getValue(); // 1이면 완료 고정
+            int state = (base == 0 && !dueSoonPolicy.isDerived() && dueSoonPolicy.isDueSoon(row.getDueDate(), now)) ? 2 : base;
+            if (state != row.getIsComplete()) {
+                idsByState.computeIfAbsent(state, k -> new ArrayList<>()).add(row.getId());
+                semIds.add(row.getSemId());
+                semBySub.put(row.getSubId(), row.getSemId());
+                changedBySub.merge(row.getSubId(), 1, Integer::sum);
+                int completedDelta = (state == 1 ? 1 : 0) - (row.getIsComplete() == 1 ? 1 : 0);
+                statDelta.add(row.getSemId(), row.getSubId(), row.getCategory(), row.getDueDate(), 0, completedDelta);
+            }
+            scheduleDueSoon(row.getId(), state, row.getDueDate());
+
+            updated.add(AssignmentDto.AssignmentStateUpdateResDto.builder()
+                    .assignId(row.getId())
+                    .isComplete(dueSoonPolicy.displayState(state, row.getDueDate(), now))
+                    .dueDate(row.getDueDate())
+                    .build());
+        }
+
+        // 학기 행 잠금을 통계 upsert 보다 먼저 id 순으로, 달력에는 완료 상태가 없어 변경 기록은 남기지 않음
+        new TreeSet<>(semIds).forEach(semesterRepo::bumpRevision);
+        idsByState.forEach(assignmentRepo::updateIsCompleteByIds);
+        assignmentStatService.apply(statDelta);
+        semBySub.forEach((subId, semId) -> eventPublisher.publishEvent(DomainEvent.builder()
+                .type(DomainEventType.ASSIGNMENT_STATE_CHANGED)
+                .semId(semId).subId(subId).count(changedBySub.get(subId))
+                .build()));
+
+        return AssignmentDto.AssignmentBulkStateUpdateResDto.builder()
+                .updated(updated)
+                .notFound(notFound)
+                .build();
+    }
+
+    // 완료가 아닌 과제에 저장할 상태 (임박 2, 그 외 0), 계산 모드에서는 항상 0
+    private int dueSoonState(Date due) {
+        if (dueSoonPolicy.isDerived()) return 0;
+        return dueSoonPolicy.isDueSoon(due, System.currentTimeMillis()) ? 2 : 0;
+    }
+
+    // 미완료(0) 과제만 임박 전환 시각에 타이머 휠 등록, 나머지는 등록 해제
+    private void scheduleDueSoon(Assignment a) {
+        scheduleDueSoon(a.getId(), a.getIsComplete(), a.getDueDate());
+    }
+
+    private void scheduleDueSoon(Long assignId, int state, Date dueDate) {
+        if (!dueSoonPolicy.isDerived() && state == 0 && dueDate != null) {
+            dueSoonTimerWheel.schedule(assignId, dueSoonPolicy.dueSoonAt(dueDate));
+        } else {
+            dueSoonTimerWheel.cancel(assignId);
+        }
+    }
+
+    // 타이머 휠에서 전환 시각이 지난 과제를 작은 batch 로 나눠 임박(2)으로 반영
+    /**
+     * 한 틱에 wheelBatchSize x wheelMaxBatchesPerTick 건까지만 반영하고 나머지는 다음 틱으로 넘김
+     * UPDATE 는 여전히 미완료(0) 이면서 임박 구간에 있는 행만 바꾸므로
+     * 그 사이 완료 처리되거나 마감일이 바뀐 과제는 건드리지 않음
+     */
+    public int flushDueSoonFromWheel() {
+        if (dueSoonPolicy.isDerived()) return 0;
+        long now = System.currentTimeMillis();
+        dueSoonTimerWheel.advance(now);
+
+        Date from = dueSoonPolicy.windowStart(now);
+        Date to = dueSoonPolicy.windowEnd(now);
+        int updated = 0;
+        Map<Long, Long> semBySub = new HashMap<>(); // 바뀐 과제가 있는 과목 -> 학기
+        Map<Long, Integer> changedBySub = new HashMap<>();
+        for (int i = 0; i < wheelMaxBatchesPerTick; i++) {
+            List<Long> ids = dueSoonTimerWheel.poll(wheelBatchSize);
+            if (ids.isEmpty()) break;
+            List<AssignmentRepo.DueSoonTargetView> targets = assignmentRepo.findDueSoonTargetsByIds(from, to, ids);
+            if (targets.isEmpty()) continue; // 모두 그 사이 완료/삭제/마감일 변경
+            updated += assignmentRepo.markDueSoonByIds(from, to,
+                    targets.stream().map(AssignmentRepo.DueSoonTargetView::getId).toList());
+            targets.forEach(t -> collectDueSoon(t, semBySub, changedBySub));
+        }
+        dueSoonChanged(semBySub, changedBySub);
+        if (updated > 0) log.info("임박 과제 타이머 휠 반영: {}건 (대기 {}건)", updated, dueSoonTimerWheel.pending());
+        return updated;
+    }
+
+    // 서버 시작 시 타이머 휠 재구성
+    /**
+     * 이미 임박 구간에 들어온 과제는 일괄 갱신으로 맞추고,
+     * 아직 구간 밖의 미완료 과제는 (is_complete, due_date) 인덱스 범위 조회 한 번으로 등록
+     * 계산 모드에서는 휠을 쓰지 않고, 저장돼 있던 임박(2)을 미완료(0)로 되돌리는 이관만 수행
+     * (계산 모드 -> 저장 모드로 돌아올 때는 아래 일괄 갱신이 임박 상태를 다시 채움)
+     */
+    public int rebuildDueSoonWheel() {
         long now = System.currentTimeMillis();
-        long diff = dueEod.getTime() - now;
-        return diff >= 0 && diff <= 48L * 60 * 60 * 1000; // 48h
+        dueSoonTimerWheel.reset(now);
+        if (dueSoonPolicy.isDerived()) {
+            int reset = resetStoredDueSoon();
+            dashboardCache.evictAll();
+            if (reset > 0) log.info("계산 모드 이관: 저장된 임박 상태 {}건 초기화", reset);
+            return 0;
+        }
+        refreshZeroToTwoForDueSoon();
+
+        List<AssignmentRepo.DueDateView> upcoming = assignmentRepo.findIncompleteDueFrom(dueSoonPolicy.windowEnd(now));
+        for (AssignmentRepo.DueDateView v : upcoming) {
+            dueSoonTimerWheel.schedule(v.getId(), dueSoonPolicy.dueSoonAt(v.getDueDate()));
+        }
+        log.info("임박 타이머 휠 재구성: {}건 등록", upcoming.size());
+        return upcoming.size();
     }
 
     // 자정에 과제 완료 상태 리프레시를 위한 함수
-    @Transactional
+    /**
+     * 미완료(0) 과제를 전부 불러오지 않고, 임박 구간을 한 번만 계산한 뒤
+     * (is_complete, due_date) 인덱스로 대상 id 만 chunk 단위로 잘라 bulk UPDATE
+     * chunk 마다 별도 트랜잭션으로 커밋하여 락과 영속성 컨텍스트를 작게 유지
+     */
     public int refreshZeroToTwoForDueSoon() {
-        // (예시) 학기/기간 범위로 가져오거나, 미완료(0)인 모든 과제를 가져온 뒤 필터링
-        var candidates = assignmentRepo.findAllByIsComplete(0); // 필요 시 repo 메소드 추가
+        if (dueSoonPolicy.isDerived()) return 0; // 계산 모드에서는 저장할 임박 상태가 없음
+        long now = System.currentTimeMillis();
+        Date from = dueSoonPolicy.windowStart(now);
+        Date to = dueSoonPolicy.windowEnd(now);
+
         int updated = 0;
-        for (Assignment a : candidates) {
-            if (isDueWithin48HoursFromEod(a.getDueDate())) {
-                a.setIsComplete(2);
-                updated++;
-            }
+        long afterId = 0L;
+        Map<Long, Long> semBySub = new HashMap<>(); // 바뀐 과제가 있는 과목 -> 학기
+        Map<Long, Integer> changedBySub = new HashMap<>();
+        while (true) {
+            long started = System.nanoTime();
+            List<AssignmentRepo.DueSoonTargetView> targets = assignmentRepo.findDueSoonTargets(from, to, afterId, PageRequest.of(0, refreshChunkSize));
+            if (targets.isEmpty()) break;
+
+            Long minId = targets.get(0).getId();
+            Long maxId = targets.get(targets.size() - 1).getId();
+            int touched = assignmentRepo.markDueSoonZeroToTwo(from, to, minId, maxId);
+            updated += touched;
+            targets.forEach(t -> collectDueSoon(t, semBySub, changedBySub));
+            log.info("임박 과제 chunk 갱신: id {}~{}, {}건, {}ms", minId, maxId, touched, (System.nanoTime() - started) / 1_000_000);
+
+            if (targets.size() < refreshChunkSize) break;
+            afterId = maxId;
+        }
+        dueSoonChanged(semBySub, changedBySub);
+        if(updated > 0) {
+            log.info("임박 과제 일괄 갱신(48h/EOD): {}건", updated);
         }
-        if(updated > 0) log.info("임박 과제 일괄 갱신(48h/EOD): {}건", updated);
         return updated;
     }
 
-    // 23:59 를 구해주는
-    private Date endOfDay(Date date) {
-        if (date == null) return null;
-        Instant dueInstant = date.toInstant();
-        ZonedDateTime zdt = dueInstant.atZone(ZoneId.of("Asia/Seoul")); // 서버 TZ 명확화
-        ZonedDateTime eod = zdt.withHour(23).withMinute(59).withSecond(59).withNano(999_000_000);
-        return Date.from(eod.toInstant());
+    private void collectDueSoon(AssignmentRepo.DueSoonTargetView target, Map<Long, Long> semBySub, Map<Long, Integer> changedBySub) {
+        semBySub.put(target.getSubId(), target.getSemId());
+        changedBySub.merge(target.getSubId(), 1, Integer::sum);
+    }
+
+    // 임박으로 바뀐 과제가 있는 학기의 revision 을 올리고(ETag), 과목마다 상태 변경 이벤트를 한 건씩 냄
+    // 사용자가 바꾼 상태와 같은 이벤트라 대시보드 무효화, SSE, 감사 로그가 그대로 따라옴
+    private void dueSoonChanged(Map<Long, Long> semBySub, Map<Long, Integer> changedBySub) {
+        new HashSet<>(semBySub.values()).forEach(semesterRepo::bumpRevision);
+        semBySub.forEach((subId, semId) -> eventPublisher.publishEvent(DomainEvent.builder()
+                .type(DomainEventType.ASSIGNMENT_STATE_CHANGED)
+                .semId(semId).subId(subId).state(2).count(changedBySub.get(subId))
+                .build()));
+    }
+
+    // 저장된 임박(2) 상태를 chunk 단위로 미완료(0)로 되돌림 (계산 모드 이관용)
+    private int resetStoredDueSoon() {
+        int reset = 0;
+        while (true) {
+            List<Long> ids = assignmentRepo.findIdsByIsComplete(2, 0L, PageRequest.of(0, refreshChunkSize));
+            if (ids.isEmpty()) break;
+            reset += assignmentRepo.resetDueSoonToZero(ids.get(0), ids.get(ids.size() - 1));
+            if (ids.size() < refreshChunkSize) break;
+        }
+        return reset;
     }
 }
@@ -0,0 +1,217 @@
+package com.toy.subkeeper.service;
+
+import com.toy.subkeeper.DTO.StatsDto;
+import com.toy.subkeeper.domain.Assignment;
+import com.toy.subkeeper.domain.AssignmentStat;
+import com.toy.subkeeper.repository.AssignmentRepo;
+import com.toy.subkeeper.repository.AssignmentStatRepo;
+import com.toy.subkeeper.repository.SemesterRepo;
+import com.toy.subkeeper.repository.SubjectRepo;
+import com.toy.subkeeper.util.KstTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 과제 통계 카운터 (assignment_stat) 관리
+ * 쓰기 경로에서는 바뀐 칸만 증감(upsert), 조회는 카운터 테이블만 읽음
+ * 매일 새벽 학기마다 과제 테이블 기준으로 다시 계산해서 어긋난 값을 맞춤
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+
+public class AssignmentStatService {
+    private static final int RECONCILE_PAGE_SIZE = 500;
+
+    private final AssignmentStatRepo assignmentStatRepo;
+    private final AssignmentRepo assignmentRepo;
+    private final SemesterRepo semesterRepo;
+    private final SubjectRepo subjectRepo;
+    private final PlatformTransactionManager transactionManager;
+
+    // 과제 한 건 추가/제거 (호출한 쪽 트랜잭션에서)
+    public void added(Assignment a) {
+        add(a.getSemId(), a.getSubject().getId(), a.getCategory(), a.getDueDate(), 1, a.getIsComplete() == 1 ? 1 : 0);
+    }
+
+    public void removed(Assignment a) {
+        add(a.getSemId(), a.getSubject().getId(), a.getCategory(), a.getDueDate(), -1, a.getIsComplete() == 1 ? -1 : 0);
+    }
+
+    public void add(Long semId, Long subId, int category, Date dueDate, int total, int completed) {
+        if (total == 0 && completed == 0) return;
+        assignmentStatRepo.upsert(subId, category, (int) KstTime.epochDay(dueDate.getTime()), semId, total, completed);
+    }
+
+    // 여러 과제의 증감을 칸별로 모아서 칸마다 한 번씩
+    public void apply(Delta delta) {
+        delta.cells.forEach((key, cell) -> {
+            if (cell.total != 0 || cell.completed != 0) {
+                assignmentStatRepo.upsert(key.getSubId(), key.getCategory(), key.getDueDay(), cell.semId, cell.total, cell.completed);
+            }
+        });
+    }
+
+    public void deleteSubject(Long subId) {
+        assignmentStatRepo.deleteBySubId(subId);
+    }
+
+    public void deleteSemester(Long semId) {
+        assignmentStatRepo.deleteBySemId(semId);
+    }
+
+    // 학기 통계, 과목별 완료율, 카테고리별, 기한 지난 수, 주별 마감 과제 수
+    @Transactional(readOnly = true)
+    public StatsDto.SemesterStats getStats(Long semId) {
+        if (!semesterRepo.existsById(semId)) {
+            throw new IllegalArgumentException("존재하지 않는 학기입니다.");
+        }
+        int today = (int) KstTime.epochDay(System.currentTimeMillis());
+
+        Map<Long, StatsDto.SubjectStat> bySubject = new LinkedHashMap<>();
+        subjectRepo.findSubjectRowsBySemId(semId).forEach(s -> bySubject.put(s.getSubId(),
+                StatsDto.SubjectStat.builder().subId(s.getSubId()).subName(s.getSubName()).build()));
+        Map<Integer, StatsDto.CategoryStat> byCategory = new TreeMap<>();
+        for (int c = 0; c <= 2; c++) {
+            byCategory.put(c, StatsDto.CategoryStat.builder().category(c).build());
+        }
+        Map<LocalDate, StatsDto.WeekStat> byWeek = new TreeMap<>();
+        int total = 0, completed = 0, overdue = 0;
+
+        for (AssignmentStatRepo.StatRowView row : assignmentStatRepo.findRowsBySemId(semId)) {
+            int rowOverdue = row.getDueDay() < today ? row.getTotal() - row.getCompleted() : 0;
+            total += row.getTotal();
+            completed += row.getCompleted();
+            overdue += rowOverdue;
+
+            StatsDto.SubjectStat sub = bySubject.get(row.getSubId());
+            if (sub != null) {
+                sub.setTotal(sub.getTotal() + row.getTotal());
+                sub.setCompleted(sub.getCompleted() + row.getCompleted());
+                sub.setOverdue(sub.getOverdue() + rowOverdue);
+            }
+            StatsDto.CategoryStat cat = byCategory.computeIfAbsent(row.getCategory(),
+                    c -> StatsDto.CategoryStat.builder().category(c).build());
+            cat.setTotal(cat.getTotal() + row.getTotal());
+            cat.setCompleted(cat.getCompleted() + row.getCompleted());
+
+            LocalDate weekStart = LocalDate.ofEpochDay(row.getDueDay()).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            StatsDto.WeekStat week = byWeek.computeIfAbsent(weekStart, w -> StatsDto.WeekStat.builder().weekStart(w).build());
+            week.setTotal(week.getTotal() + row.getTotal());
+            week.setCompleted(week.getCompleted() + row.getCompleted());
+        }
+        bySubject.values().forEach(s -> s.setCompletionRate(rate(s.getCompleted(), s.getTotal())));
+        byWeek.values().removeIf(w -> w.getTotal() == 0);
+
+        return StatsDto.SemesterStats.builder()
+                .semId(semId)
+                .total(total)
+                .completed(completed)
+                .overdue(overdue)
+                .completionRate(rate(completed, total))
+                .subjects(new ArrayList<>(bySubject.values()))
+                .categories(new ArrayList<>(byCategory.values()))
+                .weeks(new ArrayList<>(byWeek.values()))
+                .build();
+    }
+
+    // 사이드바 배지, 카운터가 없는 학기(과제 없음)는 빠짐
+    public Map<Long, AssignmentStatRepo.BadgeView> badges(Collection<Long> semIds) {
+        if (semIds.isEmpty()) return Map.of();
+        int today = (int) KstTime.epochDay(System.currentTimeMillis());
+        Map<Long, AssignmentStatRepo.BadgeView> badges = new HashMap<>();
+        assignmentStatRepo.findBadgesBySemIds(semIds, today).forEach(b -> badges.put(b.getSemId(), b));
+        return badges;
+    }
+
+    /**
+     * 모든 학기의 카운터를 과제 테이블 기준으로 다시 계산 (학기마다 별도 트랜잭션)
+     * 학기 행을 잠근 뒤 읽으므로, 같은 학기의 과제 변경은 재계산이 끝날 때까지 기다림
+     * (과제 쓰기도 revision 증가로 학기 행을 먼저 잠그고 통계를 upsert 하므로 순서가 같음)
+     * 한 학기가 실패해도(락 대기 시간 초과 등) 로그만 남기고 다음 학기로 넘어감, 돌려주는 값은 성공한 학기 수
+     */
+    public int reconcileAll() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        int semesters = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Long> semIds = semesterRepo.findIdsAfter(afterId, PageRequest.of(0, RECONCILE_PAGE_SIZE));
+            if (semIds.isEmpty()) break;
+            for (Long semId : semIds) {
+                try {
+                    tx.executeWithoutResult(status -> reconcileSemester(semId));
+                    semesters++;
+                } catch (RuntimeException e) {
+                    log.warn("과제 통계 재계산 실패 : semId= {}", semId, e);
+                }
+            }
+            afterId = semIds.get(semIds.size() - 1);
+        }
+        return semesters;
+    }
+
+    private void reconcileSemester(Long semId) {
+        if (semesterRepo.findByIdForUpdate(semId).isEmpty()) return; // 그 사이 삭제된 학기
+
+        Delta delta = new Delta();
+        for (AssignmentRepo.StatSourceView a : assignmentRepo.findStatSourceBySemId(semId)) {
+            delta.add(semId, a.getSubId(), a.getCategory(), a.getDueDate(), 1, a.getIsComplete() == 1 ? 1 : 0);
+        }
+        assignmentStatRepo.deleteBySemId(semId);
+        apply(delta);
+    }
+
+    // 카운터 테이블이 새로 생긴 경우(배포 직후) 시작 시 한 번 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeIfEmpty() {
+        if (assignmentStatRepo.count() > 0 || assignmentRepo.count() == 0) return;
+        long started = System.currentTimeMillis();
+        int semesters = reconcileAll();
+        log.info("과제 통계 카운터 초기화 : 학기 {}개, {}ms", semesters, System.currentTimeMillis() - started);
+    }
+
+    private static double rate(int completed, int total) {
+        return total == 0 ? 0.0 : (double) completed / total;
+    }
+
+    // 칸별 증감 모음 (일괄 생성, 일괄 상태 변경, 재계산)
+    public static class Delta {
+        private final Map<AssignmentStat.Key, Cell> cells = new LinkedHashMap<>();
+
+        public void add(Long semId, Long subId, int category, Date dueDate, int total, int completed) {
+            AssignmentStat.Key key = new AssignmentStat.Key(subId, category, (int) KstTime.epochDay(dueDate.getTime()));
+            Cell cell = cells.computeIfAbsent(key, k -> new Cell(semId));
+            cell.total += total;
+            cell.completed += completed;
+        }
+
+        private static class Cell {
+            private final Long semId;
+            private int total;
+            private int completed;
+
+            private Cell(Long semId) {
+                this.semId = semId;
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.toy.subkeeper.service;
+
+import com.toy.subkeeper.domain.CalendarChange;
+import com.toy.subkeeper.repository.CalendarChangeRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 달력 변경 기록과 동기화 토큰 관리
+ * 토큰은 변경 기록 id, 클라이언트는 받은 토큰 이후의 변경만 받아감
+ * IDENTITY id 는 커밋 순서와 다를 수 있으므로 settle-millis 가 지난 기록까지만 토큰으로 내주고,
+ * 그 이후 기록은 다음 동기화 때 한 번 더 내려감 (생성/수정/삭제 적용은 여러 번 해도 결과가 같음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+
+public class CalendarChangeService {
+    public static final int CREATED = 0;
+    public static final int UPDATED = 1;
+    public static final int DELETED = 2;
+
+    private final CalendarChangeRepo calendarChangeRepo;
+
+    @Value("${calendar.sync.settle-millis:10000}")
+    private long settleMillis;
+
+    @Value("${calendar.sync.retention-days:14}")
+    private int retentionDays;
+
+    @Transactional
+    public void record(Long semId, Long assignId, int changeType) {
+        calendarChangeRepo.save(new CalendarChange(semId, assignId, changeType, new Date()));
+    }
+
+    // 여러 과제 생성을 한 문장으로 기록
+    @Transactional
+    public void recordCreated(Long semId, List<Long> assignIds) {
+        if (assignIds.isEmpty()) return;
+        calendarChangeRepo.insertCreated(semId, assignIds, new Date());
+    }
+
+    @Transactional
+    public void recordSubjectDeleted(Long subId) {
+        calendarChangeRepo.insertDeletedForSubject(subId, new Date());
+    }
+
+    public List<CalendarChange> findChangesSince(Long semId, Long token) {
+        return calendarChangeRepo.findBySemIdAndIdGreaterThanOrderByIdAsc(semId, token);
+    }
+
+    // 지금 내줄 수 있는 토큰
+    public long currentToken() {
+        Long settled = calendarChangeRepo.findLatestIdChangedBefore(new Date(System.currentTimeMillis() - settleMillis));
+        if (settled != null) return settled;
+        Long oldest = calendarChangeRepo.findOldestId();
+        return oldest == null ? 0L : oldest - 1;
+    }
+
+    // 토큰 이후 기록이 정리되지 않고 모두 남아 있는지
+    public boolean isValid(Long token) {
+        if (token == null) return false;
+        Long oldest = calendarChangeRepo.findOldestId();
+        return oldest == null || token >= oldest - 1;
+    }
+
+    // 보관 기간이 지난 기록 정리
+    public int compact() {
+        Long latestId = calendarChangeRepo.findLatestId();
+        if (latestId == null) return 0;
+        Date before = new Date(System.currentTimeMillis() - retentionDays * 24L * 60 * 60 * 1000);
+        int deleted = calendarChangeRepo.deleteChangedBefore(before, latestId);
+        if (deleted > 0) log.info("달력 변경 기록 정리: {}건", deleted);
+        return deleted;
+    }
+}
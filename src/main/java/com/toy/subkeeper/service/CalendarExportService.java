@@ -0,0 +1,173 @@
+package com.toy.subkeeper.service;
+
+import com.toy.subkeeper.domain.Semester;
+import com.toy.subkeeper.repository.SemesterRepo;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 학기 마감일 달력 구독 (iCalendar, .ics)
+ * 달력 조회(getCalendarItems)와 같은 행을 엔티티/DTO 없이 JDBC 커서로 한 줄씩 읽어 바로 응답에 씀
+ * MySQL 은 fetchSize = Integer.MIN_VALUE 일 때만 결과를 한 번에 받지 않고 흘려보내므로 학기 크기와 상관없이 메모리 일정
+ * 전송이 끝날 때까지 커넥션을 잡고 있으므로 읽기 전용 트랜잭션(replica 가 있으면 replica)에서 실행
+ */
+@Service
+@RequiredArgsConstructor
+
+public class CalendarExportService {
+    private static final DateTimeFormatter ICS_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final String[] CATEGORY_NAMES = {"과제", "강의", "할 일"};
+    private static final String CRLF = "\r\n";
+
+    private static final String SQL = """
+            SELECT a.id, a.assign_name, a.due_date, a.category, s.sub_name
+              FROM assignment a
+              JOIN subject s ON s.id = a.sub_id
+             WHERE a.sem_id = ?
+             ORDER BY a.due_date, a.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SemesterRepo semesterRepo;
+    private final PlatformTransactionManager transactionManager;
+
+    private int fetchSize;
+
+    // MySQL 드라이버는 Integer.MIN_VALUE 로 스트리밍, 그 외(H2 등)는 음수를 받지 않아 적당한 크기로
+    @PostConstruct
+    public void detectFetchSize() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        boolean mysql = product != null && (product.contains("MySQL") || product.contains("MariaDB"));
+        fetchSize = mysql ? Integer.MIN_VALUE : 500;
+    }
+
+    // 요청 스레드에서 학기 확인 (없는 학기면 스트리밍 시작 전에 예외)
+    @Transactional(readOnly = true)
+    public Semester getSemester(Long semId) {
+        return semesterRepo.findByIdWithUser(semId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 학기입니다."));
+    }
+
+    // 과제 쓰기마다 오르는 revision 기준, 같은 초 안의 변경도 구분되도록 Last-Modified 와 같이 씀
+    // 약한 ETag, 강한 ETag 면 Tomcat 이 text/calendar 응답을 gzip 하지 않음
+    public String getEtag(Semester semester) {
+        return "W/\"i" + semester.getId() + "-" + semester.getRevision() + "\"";
+    }
+
+    // 응답 본문, 실제 조회는 비동기 스레드에서 응답에 쓰면서
+    public StreamingResponseBody export(Semester semester) {
+        Long semId = semester.getId();
+        String calName = semester.getSemName();
+        return out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 8192);
+            String stamp = ICS_TIME.format(Instant.now());
+
+            writeLine(writer, "BEGIN:VCALENDAR");
+            writeLine(writer, "VERSION:2.0");
+            writeLine(writer, "PRODID:-//2359//subkeeper//KO");
+            writeLine(writer, "CALSCALE:GREGORIAN");
+            writeLine(writer, "METHOD:PUBLISH");
+            writeLine(writer, "X-WR-CALNAME:" + escape(calName));
+            writeLine(writer, "X-WR-TIMEZONE:Asia/Seoul");
+
+            TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+            readOnlyTx.setReadOnly(true);
+            try {
+                readOnlyTx.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                    PreparedStatement ps = con.prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(fetchSize);
+                    ps.setLong(1, semId);
+                    return ps;
+                }, (RowCallbackHandler) rs -> {
+                    try {
+                        writeEvent(writer, rs, stamp);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e); // 클라이언트가 끊으면 커서도 바로 닫음
+                    }
+                }));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            writeLine(writer, "END:VCALENDAR");
+            writer.flush();
+        };
+    }
+
+    private void writeEvent(Writer writer, ResultSet rs, String stamp) throws SQLException, IOException {
+        long assignId = rs.getLong(1);
+        String assignName = rs.getString(2);
+        Timestamp due = rs.getTimestamp(3);
+        int category = rs.getInt(4);
+        String subName = rs.getString(5);
+        String dueAt = ICS_TIME.format(due.toInstant());
+
+        writeLine(writer, "BEGIN:VEVENT");
+        writeLine(writer, "UID:assignment-" + assignId + "@subkeeper");
+        writeLine(writer, "DTSTAMP:" + stamp);
+        writeLine(writer, "DTSTART:" + dueAt);
+        writeLine(writer, "DTEND:" + dueAt);
+        writeLine(writer, "SUMMARY:" + escape("[" + subName + "] " + assignName));
+        if (category >= 0 && category < CATEGORY_NAMES.length) {
+            writeLine(writer, "CATEGORIES:" + CATEGORY_NAMES[category]);
+        }
+        writeLine(writer, "TRANSP:TRANSPARENT");
+        writeLine(writer, "END:VEVENT");
+    }
+
+    // RFC 5545 텍스트 이스케이프
+    private static String escape(String text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length() + 8);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> sb.append('\\').append(c);
+                case '\n' -> sb.append("\\n");
+                case '\r' -> { }
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // 한 줄은 75 바이트(UTF-8)를 넘지 않게 접음, 이어지는 줄은 공백 하나로 시작
+    private static void writeLine(Writer writer, String line) throws IOException {
+        int bytes = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            // 서로게이트 쌍은 앞 글자에서 4 바이트로 세고 쌍 사이에서는 접지 않음
+            int size = c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isHighSurrogate(c) ? 4 : Character.isLowSurrogate(c) ? 0 : 3;
+            if (size > 0 && bytes + size > 75) {
+                writer.write(CRLF);
+                writer.write(' ');
+                bytes = 1;
+            }
+            writer.write(c);
+            bytes += size;
+        }
+        writer.write(CRLF);
+    }
+}
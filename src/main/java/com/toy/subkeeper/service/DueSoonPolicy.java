@@ -0,0 +1,57 @@
+package com.toy.subkeeper.service;
+
+import com.toy.subkeeper.util.KstTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+/**
+ * 마감 임박(2) 상태 판단 규칙
+ * 저장 모드(기본) : 임박 상태를 isComplete 에 저장하고 타이머 휠/리프레시로 갱신
+ * 계산 모드(assignment.due-soon.derived=true) : isComplete 에는 0/1 만 저장하고
+ * 응답으로 변환할 때 요청 시각(now) 기준으로 임박 여부를 계산
+ */
+@Component
+public class DueSoonPolicy {
+    private static final long DUE_SOON_MILLIS = 48L * 60 * 60 * 1000; // 48h
+
+    @Value("${assignment.due-soon.derived:false}")
+    private boolean derived;
+
+    public boolean isDerived() {
+        return derived;
+    }
+
+    // 마감일 23:59:59.999 까지 0 ~ 48h 남았는지
+    public boolean isDueSoon(Date due, long now) {
+        if (due == null) return false;
+        long diff = KstTime.endOfDay(due.getTime()) - now;
+        return diff >= 0 && diff <= DUE_SOON_MILLIS;
+    }
+
+    // 응답에 내려줄 상태, 계산 모드에서는 완료(1)가 아니면 now 기준으로 0/2 판단
+    public int displayState(int stored, Date due, long now) {
+        if (!derived || stored == 1) return stored;
+        return isDueSoon(due, now) ? 2 : 0;
+    }
+
+    // 임박 상태로 바뀌는 시각 (마감일 23:59:59.999 - 48h)
+    public long dueSoonAt(Date due) {
+        return KstTime.endOfDay(due.getTime()) - DUE_SOON_MILLIS;
+    }
+
+    // 임박 구간의 시작, 오늘 00:00
+    public Date windowStart(long now) {
+        return new Date(KstTime.startOfDay(now));
+    }
+
+    /**
+     * 임박 구간의 끝 (배타)
+     * 마감일의 23:59:59.999 가 now + 48h 이하인 날짜까지 포함되므로
+     * now + 48h + 1ms 가 속한 날의 00:00 이 구간의 끝
+     */
+    public Date windowEnd(long now) {
+        return new Date(KstTime.startOfDay(now + DUE_SOON_MILLIS + 1));
+    }
+}
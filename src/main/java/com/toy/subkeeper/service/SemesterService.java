@@ -1,25 +1,48 @@
 package com.toy.subkeeper.service;
 
 import com.toy.subkeeper.DTO.CalendarDto;
+import com.toy.subkeeper.DTO.CompactDto;
+import com.toy.subkeeper.cache.DashboardCache;
+import com.toy.subkeeper.config.ReadWriteRoutingDataSource;
+import com.toy.subkeeper.cache.SingleFlight;
 import com.toy.subkeeper.DTO.DashboardDto;
 import com.toy.subkeeper.DTO.SemesterDto;
 import com.toy.subkeeper.domain.Assignment;
+import com.toy.subkeeper.domain.CalendarChange;
+import com.toy.subkeeper.event.DomainEvent;
+import com.toy.subkeeper.event.DomainEventType;
+import com.toy.subkeeper.event.SemesterEventStream;
+import com.toy.subkeeper.repository.AssignmentQueryRepo;
 import com.toy.subkeeper.repository.AssignmentRepo;
-import com.toy.subkeeper.exception.DuplicateSemNameException;
+import com.toy.subkeeper.repository.AssignmentStatRepo;
 import com.toy.subkeeper.domain.Semester;
 import com.toy.subkeeper.repository.SemesterRepo;
 import com.toy.subkeeper.domain.Subject;
 import com.toy.subkeeper.repository.SubjectRepo;
-import com.toy.subkeeper.domain.User;
 import com.toy.subkeeper.repository.UserRepo;
+import com.toy.subkeeper.util.KstTime;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -30,89 +53,178 @@ public class SemesterService {
     private final UserRepo userRepo;
     private final SubjectRepo subjectRepo;
     private final AssignmentRepo assignmentRepo;
+    private final DueSoonPolicy dueSoonPolicy;
+    private final DashboardCache dashboardCache;
+    private final PlatformTransactionManager transactionManager;
+    private final CalendarChangeService calendarChangeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final SemesterEventStream semesterEventStream;
+    private final AssignmentStatService assignmentStatService;
+
+    // 진행 중인 대시보드 조회 (캐시 키 + generation)
+    private final SingleFlight<Map.Entry<DashboardCache.Key, Long>, DashboardDto.DashboardViewDto> dashboardLoads = new SingleFlight<>();
+
+    // 달력 기간 조회 페이지 크기 (기본, 최대)
+    @Value("${calendar.page.default-size:200}")
+    private int calendarDefaultPageSize;
+
+    @Value("${calendar.page.max-size:500}")
+    private int calendarMaxPageSize;
+
+    @PostConstruct
+    void bindMetrics() {
+        FunctionCounter.builder("dashboard.singleflight.coalesced", dashboardLoads, SingleFlight::coalescedCount)
+                .description("진행 중인 같은 대시보드 조회에 합류한 요청 수")
+                .register(meterRegistry);
+    }
 
     // 학기 생성
+    /**
+     * 사용자는 외래키만 필요하므로 조회하지 않고 참조(프록시)만 사용해서 INSERT 한 번으로 끝냄
+     * 이름 중복은 uk_semester_user_sem_name, 없는 사용자는 외래키(fk_semester_user)가 막고 GlobalExceptionHandler 가 변환
+     */
+    @Transactional
     public Semester createSemester(Long userId, SemesterDto.SemesterCreateReqDto semCreateReqDto) {
         String semName = semCreateReqDto.getSemName().trim(); // 공백 제거
         if (semName.isEmpty()) {
             throw new IllegalArgumentException("학기 이름은 필수입니다.");
         }
 
-        // 동일 사용자 내 중복 확인
-        if (semesterRepo.existsByUser_IdAndSemName(userId, semName)) {
-            throw new DuplicateSemNameException("해당 사용자에 이미 존재하는 학기입니다: " + semName);
-        }
-        
-        // userId 조회
-        User user = userRepo.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 유저입니다."));
-
         // 새로운 학기 생성
         Semester semester = new Semester(
-                semCreateReqDto.getSemName(),
-                user
+                semName,
+                userRepo.getReferenceById(userId)
         );
         semesterRepo.save(semester);
-
-        log.info("학기 생성: {} (id= {})", semester.getSemName(), semester.getId());
+        eventPublisher.publishEvent(DomainEvent.builder()
+                .type(DomainEventType.SEMESTER_CREATED)
+                .userId(userId).semId(semester.getId()).count(1).name(semName)
+                .build());
 
         return semester;
     }
 
     // 학기 삭제
+    /**
+     * cascade 로 지우면 과목/과제를 모두 불러와 한 행씩 지우므로
+     * 과제 -> 과목 -> 학기 순으로 DELETE 세 번에 끝냄
+     * 타이머 휠에 남은 과제는 전환 시각에 UPDATE 대상이 없어 그대로 흘러감
+     */
     @Transactional
     public void deleteSemester(Long semId){
-        Semester semester = semesterRepo.findById(semId)
+        // 학기 행을 먼저 잠가서 과제 쓰기/통계 재계산과 같은 순서(학기 -> 통계)로 락을 잡음
+        Semester semester = semesterRepo.findByIdForUpdate(semId)
                 .orElseThrow(() -> new RuntimeException("학기를 찾을 수 없습니다."));
-
-        log.info("학기 삭제: (id= {})", semester.getId());
-
-        semesterRepo.delete(semester);
+        Long userId = semester.getUser().getId(); // 지연 로딩 프록시의 id 라 추가 조회 없음
+
+        int assignments = assignmentRepo.bulkDeleteBySemId(semId);
+        assignmentStatService.deleteSemester(semId);
+        int subjects = subjectRepo.bulkDeleteBySemId(semId);
+        semesterRepo.bulkDeleteById(semId);
+
+        eventPublisher.publishEvent(DomainEvent.builder()
+                .type(DomainEventType.SEMESTER_DELETED)
+                .userId(userId).semId(semId).count(assignments)
+                .name(semester.getSemName()).subjectCount(subjects)
+                .build());
     }
 
     // 대시보드 이동
-    @Transactional(readOnly = true)
+    /**
+     * 캐시에 있으면 트랜잭션/커넥션 없이 바로 반환
+     * 없을 때만 읽기 전용 트랜잭션으로 조회해서 캐시에 저장
+     * 캐시에 넣는 조회라 replica 가 아닌 primary 에서 읽음 (복제 지연된 내용이 다음 무효화까지 캐시에 남지 않도록,
+     * 과제 이벤트에는 userId 가 없어 다른 학기의 쓰기로 지워진 대시보드는 read-your-writes 로 pin 되지 않음)
+     * 같은 조회가 동시에 여러 개 오면 하나만 조회하고 나머지는 그 결과를 받음,
+     * 무효화(generation 증가) 이후에 온 요청은 그 전에 시작한 조회에 합류하지 않음
+     */
     public DashboardDto.DashboardViewDto getDashboardView(Long userId, Long semIdNullable, Long subId, List<Integer> categories) {
-        // 유저의 모든 학기 조회
-        List<Semester> allSemesters = semesterRepo.findByUser_IdOrderByIdDesc(userId);
+        DashboardCache.Key key = DashboardCache.key(userId, semIdNullable, subId, categories);
+        DashboardDto.DashboardViewDto cached = dashboardCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = dashboardCache.generation();
+        return dashboardLoads.execute(Map.entry(key, generation), () -> {
+            TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+            readOnlyTx.setReadOnly(true);
+            DashboardDto.DashboardViewDto view = ReadWriteRoutingDataSource.onPrimary(
+                    () -> readOnlyTx.execute(status -> loadDashboardView(userId, semIdNullable, subId, categories)));
+
+            dashboardCache.put(key, view, generation);
+            return view;
+        });
+    }
+
+    /**
+     * 대시보드 조회 전용 경로, 엔티티 없이 두 번의 조회로 끝냄
+     * 1. 사용자의 학기 목록 + 사용자 이름 (사이드바, 상단, 기본 학기 결정)
+     * 2. 선택한 학기의 과목 + 필터에 맞는 과제
+     */
+    private DashboardDto.DashboardViewDto loadDashboardView(Long userId, Long semIdNullable, Long subId, List<Integer> categories) {
+        // 유저의 모든 학기 조회 (최신순)
+        List<SemesterRepo.SemesterMenuView> allSemesters = semesterRepo.findMenuByUserId(userId);
         if(allSemesters.isEmpty()) {
             throw new IllegalArgumentException("해당 사용자의 학기가 없습니다.");
         }
 
-        // 사용할 semId 결정 (기본은 가장 최신 학기)
-        Long semId = (semIdNullable != null)
-                ? semIdNullable
-                : semesterRepo.findTopByUser_IdOrderByIdDesc(userId)
-                .orElseThrow(() -> new IllegalArgumentException("최신 학기를 찾을 수 없습니다."))
-                .getId();
-
-        // 사이드 제외 대시보드
-        DashboardDto.DashboardDtoBuilder dashboard = buildDashboard(semId);
+        // 사용할 학기 결정 (기본은 가장 최신 학기)
+        SemesterRepo.SemesterMenuView current = (semIdNullable == null)
+                ? allSemesters.get(0)
+                : allSemesters.stream()
+                .filter(s -> s.getSemId().equals(semIdNullable))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 학기입니다."));
+        Long semId = current.getSemId();
 
-        // 사이드 바
+        // 사이드 바, 배지는 통계 카운터에서 (학기 수만큼의 작은 집계)
+        Map<Long, AssignmentStatRepo.BadgeView> badges = assignmentStatService.badges(
+                allSemesters.stream().map(SemesterRepo.SemesterMenuView::getSemId).toList());
         List<DashboardDto.DashboardViewDto.SemesterMenuItemDto> menu = allSemesters.stream()
-                .map(s -> DashboardDto.DashboardViewDto.SemesterMenuItemDto.builder()
-                        .semId(s.getId())
-                        .semName(s.getSemName())
-                        .current(s.getId().equals(semId))
-                        .build())
+                .map(s -> {
+                    AssignmentStatRepo.BadgeView badge = badges.get(s.getSemId());
+                    return DashboardDto.DashboardViewDto.SemesterMenuItemDto.builder()
+                            .semId(s.getSemId())
+                            .semName(s.getSemName())
+                            .current(s.getSemId().equals(semId))
+                            .incomplete(badge == null || badge.getIncomplete() == null ? 0 : badge.getIncomplete())
+                            .overdue(badge == null || badge.getOverdue() == null ? 0 : badge.getOverdue())
+                            .build();
+                })
                 .toList();
 
-        // 과제 칸, 모두 최신순으로 정렬
-        if(categories != null && categories.isEmpty()) {
-            categories = null; // 카테고리 리스트가 비어있으면 null로 처리해야 쿼리문에서 올바르게 인식
+        // 과목과 과제 칸, 과목은 필터와 상관없이 모두, 과제는 넘어온 조건만 걸어 마감일 순으로
+        List<SubjectRepo.SubjectRowView> subjects = subjectRepo.findSubjectRowsBySemId(semId);
+        List<AssignmentQueryRepo.DashboardRow> rows = assignmentRepo.findDashboardRows(semId, subId, categories);
+        long now = System.currentTimeMillis(); // 요청 하나에서 임박 여부 계산 기준 시각은 하나
+
+        List<DashboardDto.DashboardDtoBuilder.AssignmentListDto> incompleteDtos = new ArrayList<>();
+        List<DashboardDto.DashboardDtoBuilder.AssignmentListDto> completeDtos = new ArrayList<>();
+        for (AssignmentQueryRepo.DashboardRow row : rows) {
+            if (row.isComplete() == 1) {
+                completeDtos.add(toAssignmentDto(row, now));     // 1: 완료
+            } else {
+                incompleteDtos.add(toAssignmentDto(row, now));   // 0: 미완료, 2: 하루 남은 과제
+            }
         }
-        List<Assignment> all = assignmentRepo.findAllBySemesterIdOrderByDueDateAsc(semId, subId, categories);
 
-        List<DashboardDto.DashboardDtoBuilder.AssignmentListDto> incompleteDtos = all.stream()
-                .filter(a -> a.getIsComplete() != 1)     // 0: 미완료, 2: 하루 남은 과제
-                .map(this::toAssignmentDto)
+        // 사이드 제외 대시보드
+        List<DashboardDto.DashboardDtoBuilder.SubjectListDto> subjectList = subjects.stream()
+                .map(sub -> DashboardDto.DashboardDtoBuilder.SubjectListDto.builder()
+                        .subId(sub.getSubId())
+                        .subName(sub.getSubName())
+                        .build())
                 .toList();
 
-        List<DashboardDto.DashboardDtoBuilder.AssignmentListDto> completeDtos = all.stream()
-                .filter(a -> a.getIsComplete() == 1)     // 1: 완료
-                .map(this::toAssignmentDto)
-                .toList();
+        DashboardDto.DashboardDtoBuilder dashboard = DashboardDto.DashboardDtoBuilder.builder()
+                .userId(current.getUserId())
+                .userName(current.getUserName())
+                .semId(semId)
+                .semName(current.getSemName())
+                .subjectList(subjectList)
+                .build();
 
         DashboardDto.DashboardViewDto.AssignmentSections sections = DashboardDto.DashboardViewDto.AssignmentSections.builder()
                 .incomplete(incompleteDtos)
@@ -126,96 +238,224 @@ public class SemesterService {
                 .build();
     }
 
+    /**
+     * 대시보드 ETag, 사용자의 학기 목록(사이드바)과 각 학기 revision, 오늘 날짜(KST)로 만든 값
+     * 임박 전환도 revision 을 올리므로 서버 재시작/캐시 비우기와 상관없이 내용이 같으면 같은 값,
+     * 날짜는 기한 지난 배지와 계산 모드의 임박 여부가 자정에 바뀌기 때문
+     * 본문(캐시)을 primary 에서 만들므로 revision 도 primary 에서 읽음 (replica 의 ETag 가 본문보다 앞서거나 뒤처지지 않도록)
+     * 약한 ETag (W/), Tomcat 은 강한 ETag 가 붙은 응답을 gzip 하지 않음 (압축해도 의미가 같으므로 약한 비교로 충분)
+     */
+    public String getDashboardEtag(Long userId) {
+        return ReadWriteRoutingDataSource.onPrimary(() -> {
+            long hash = KstTime.epochDay(System.currentTimeMillis());
+            for (SemesterRepo.RevisionView r : semesterRepo.findRevisionsByUserId(userId)) {
+                hash = 31 * hash + r.getSemId();
+                hash = 31 * hash + r.getRevision();
+            }
+            return "W/\"d" + Long.toHexString(hash) + "\"";
+        });
+    }
+
+    // 학기 변경 이벤트 구독 (SSE), 연결 뒤로는 커밋된 변경만 흘려보냄
+    public SseEmitter subscribeEvents(Long semId) {
+        if (!semesterRepo.existsById(semId)) {
+            throw new IllegalArgumentException("존재하지 않는 학기입니다.");
+        }
+        return semesterEventStream.subscribe(semId);
+    }
+
+    // 달력 ETag, 달력에는 완료 상태가 없으므로 학기 revision 만 사용 (gzip 되도록 약한 ETag)
+    @Transactional(readOnly = true)
+    public String getCalendarEtag(Long semId) {
+        long revision = semesterRepo.findRevisionById(semId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 학기입니다."));
+        return "W/\"c" + semId + "-" + revision + "\"";
+    }
+
+    // 통계 ETag, 과제가 바뀌면 revision 이, 날짜가 바뀌면 기한 지난 수가 달라짐 (gzip 되도록 약한 ETag)
+    @Transactional(readOnly = true)
+    public String getStatsEtag(Long semId) {
+        long revision = semesterRepo.findRevisionById(semId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 학기입니다."));
+        return "W/\"s" + semId + "-" + revision + "-" + KstTime.epochDay(System.currentTimeMillis()) + "\"";
+    }
+
     // 달력
     @Transactional(readOnly = true)
     public CalendarDto.CalendarItemList getCalendarItems(Long semId) {
-        // 학기 사용자 관계
-        Semester sem = semesterRepo.findByIdWithUser(semId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 학기입니다."));
+        return getCalendarItems(semId, null, null, null, null);
+    }
 
-        // 과제를 마감일 순으로 정렬
-        List<Assignment> assignments = assignmentRepo.findAllBySemesterIdOrderByDueDate(semId);
+    /**
+     * from, to 가 없으면 학기 전체, 있으면 [from, to) 기간만 (dueDate, id) keyset 페이지로 조회
+     * cursor 는 이전 응답의 nextCursor ("마감시각(ms)_과제id")
+     */
+    @Transactional(readOnly = true)
+    public CalendarDto.CalendarItemList getCalendarItems(Long semId, LocalDate from, LocalDate to, String cursor, Integer size) {
+        if (from == null && to == null) {
+            return getAllCalendarItems(semId);
+        }
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 기간(from, to)을 올바르게 입력해주세요.");
+        }
 
-        // 객체 만들기
-        List<CalendarDto.CalendarItem> items = assignments.stream()
-                .map(a -> CalendarDto.CalendarItem.builder()
-                        .subName(a.getSubject().getSubName())
-                        .dueDate(a.getDueDate())
-                        .assignName(a.getAssignName())
-                        .category(a.getCategory())
-                        .build())
+        Semester sem = semesterRepo.findByIdWithUser(semId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 학기입니다."));
+        long syncToken = calendarChangeService.currentToken();
+
+        Date fromDate = new Date(KstTime.startOfDay(from));
+        Date toDate = new Date(KstTime.startOfDay(to));
+        Date afterDue = new Date(fromDate.getTime() - 1);
+        long afterId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split("_");
+            try {
+                afterDue = new Date(Long.parseLong(parts[0]));
+                afterId = Long.parseLong(parts[1]);
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("잘못된 cursor 입니다.");
+            }
+        }
+        int pageSize = (size == null) ? calendarDefaultPageSize : Math.max(1, Math.min(size, calendarMaxPageSize));
+
+        // 다음 페이지 유무 확인을 위해 하나 더 읽음
+        List<AssignmentRepo.CalendarRowView> rows = assignmentRepo.findCalendarRowsInWindow(
+                semId, fromDate, toDate, afterDue, afterId, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<CalendarDto.CalendarItem> items = rows.stream()
+                .limit(pageSize)
+                .map(this::toCalendarItem)
                 .toList();
 
+        String nextCursor = null;
+        if (hasNext) {
+            CalendarDto.CalendarItem last = items.get(items.size() - 1);
+            nextCursor = last.getDueDate().getTime() + "_" + last.getAssignId();
+        }
+
         return CalendarDto.CalendarItemList.builder()
                 .userName(sem.getUser().getUserName())
                 .items(items)
+                .syncToken(syncToken)
+                .nextCursor(nextCursor)
                 .build();
     }
 
+    // 달력 가벼운 형식 (format=compact), 과목명 대신 과목 id 와 과목 사전
     @Transactional(readOnly = true)
-    public DashboardDto.DashboardDtoBuilder buildDashboard(Long semId) {
-        // 학기와 사용자 관계
+    public CompactDto.Calendar getCompactCalendarItems(Long semId, LocalDate from, LocalDate to, String cursor, Integer size) {
+        return CompactDto.Calendar.from(getCalendarItems(semId, from, to, cursor, size));
+    }
+
+    private CalendarDto.CalendarItemList getAllCalendarItems(Long semId) {
+        // 학기 사용자 관계
         Semester sem = semesterRepo.findByIdWithUser(semId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 학기입니다."));
 
-        // 과목 리스트 가져오기
-        List<Subject> subjects = subjectRepo.findBySemester_Id(semId);
+        // 조회 전에 토큰을 먼저 잡아야 그 사이 변경을 놓치지 않음
+        long syncToken = calendarChangeService.currentToken();
 
-        // 과목
-        List<DashboardDto.DashboardDtoBuilder.SubjectListDto> subjectList = subjects.stream()
-                .map(s -> DashboardDto.DashboardDtoBuilder.SubjectListDto.builder()
-                        .subId(s.getId())
-                        .subName(s.getSubName())
-                        .build())
+        // 과제를 마감일 순으로 정렬, 객체 만들기
+        List<CalendarDto.CalendarItem> items = assignmentRepo.findCalendarRows(semId).stream()
+                .map(this::toCalendarItem)
                 .toList();
 
-        return DashboardDto.DashboardDtoBuilder.builder()
-                .userId(sem.getUser().getId())
+        return CalendarDto.CalendarItemList.builder()
                 .userName(sem.getUser().getUserName())
-                .semId(sem.getId())
-                .semName(sem.getSemName())
-                .subjectList(subjectList)
+                .items(items)
+                .syncToken(syncToken)
+                .build();
+    }
+
+    // 달력 증분 동기화
+    /**
+     * since 이후의 변경 기록을 과제별로 합쳐서 생성/수정/삭제로 나눠 내려줌
+     * 토큰이 없거나 이미 정리된 기록 이전의 토큰이면 전체 목록을 내려줌
+     */
+    @Transactional(readOnly = true)
+    public CalendarDto.CalendarDelta getCalendarDelta(Long semId, Long since) {
+        if (!calendarChangeService.isValid(since)) {
+            CalendarDto.CalendarItemList all = getCalendarItems(semId);
+            return CalendarDto.CalendarDelta.builder()
+                    .full(true)
+                    .syncToken(all.getSyncToken())
+                    .userName(all.getUserName())
+                    .items(all.getItems())
+                    .build();
+        }
+
+        long syncToken = Math.max(since, calendarChangeService.currentToken());
+        List<CalendarChange> changes = calendarChangeService.findChangesSince(semId, since);
+
+        // 과제별 첫 변경이 생성인지, 마지막 변경이 무엇인지
+        Set<Long> createdInRange = new HashSet<>();
+        Map<Long, Integer> lastChange = new HashMap<>();
+        for (CalendarChange c : changes) {
+            if (!lastChange.containsKey(c.getAssignId()) && c.getChangeType() == CalendarChangeService.CREATED) {
+                createdInRange.add(c.getAssignId());
+            }
+            lastChange.put(c.getAssignId(), c.getChangeType());
+        }
+
+        List<Long> deleted = new ArrayList<>();
+        Set<Long> upsertIds = new HashSet<>();
+        lastChange.forEach((assignId, type) -> {
+            if (type != CalendarChangeService.DELETED) {
+                upsertIds.add(assignId);
+            } else if (!createdInRange.contains(assignId)) {
+                deleted.add(assignId); // 구간 안에서 생겼다가 지워진 과제는 클라이언트가 모름
+            }
+        });
+
+        List<CalendarDto.CalendarItem> created = new ArrayList<>();
+        List<CalendarDto.CalendarItem> updated = new ArrayList<>();
+        if (!upsertIds.isEmpty()) {
+            List<AssignmentRepo.CalendarRowView> rows = assignmentRepo.findCalendarRowsByIds(semId, upsertIds);
+            for (AssignmentRepo.CalendarRowView row : rows) {
+                upsertIds.remove(row.getAssignId());
+                (createdInRange.contains(row.getAssignId()) ? created : updated).add(toCalendarItem(row));
+            }
+            // 기록 이후 다른 학기로 옮겨졌거나 지워진 과제
+            upsertIds.stream().filter(id -> !createdInRange.contains(id)).forEach(deleted::add);
+        }
+
+        return CalendarDto.CalendarDelta.builder()
+                .full(false)
+                .syncToken(syncToken)
+                .created(created)
+                .updated(updated)
+                .deleted(deleted)
+                .build();
+    }
+
+    private CalendarDto.CalendarItem toCalendarItem(AssignmentRepo.CalendarRowView row) {
+        return CalendarDto.CalendarItem.builder()
+                .assignId(row.getAssignId())
+                .subId(row.getSubId())
+                .subName(row.getSubName())
+                .dueDate(row.getDueDate())
+                .assignName(row.getAssignName())
+                .category(row.getCategory())
                 .build();
     }
 
     // 과제 DTO에 대한 Mapping Helper
-    private DashboardDto.DashboardDtoBuilder.AssignmentListDto toAssignmentDto(Assignment assignment) {
+    private DashboardDto.DashboardDtoBuilder.AssignmentListDto toAssignmentDto(AssignmentQueryRepo.DashboardRow row, long now) {
         return DashboardDto.DashboardDtoBuilder.AssignmentListDto.builder()
-                .assignId(assignment.getId())
-                .assignName(assignment.getAssignName())
-                .dueDate(assignment.getDueDate())
-                .category(assignment.getCategory())
-                .isComplete(assignment.getIsComplete())
-                .dueLabel(formatDueLabelKST(assignment.getDueDate()))
-                .subId(assignment.getSubject().getId())
+                .assignId(row.assignId())
+                .assignName(row.assignName())
+                .dueDate(row.dueDate())
+                .category(row.category())
+                .isComplete(dueSoonPolicy.displayState(row.isComplete(), row.dueDate(), now))
+                .dueLabel(formatDueLabelKST(row.dueDate()))
+                .subId(row.subId())
                 .build();
     }
 
-    // Chat GPT 로직
     // 해당 날짜를 'AUG 21st' 등으로 표기하여 그대로 넘겨줌
+    // 날짜별 라벨 표에서 꺼내므로 과제마다 날짜 객체/문자열을 새로 만들지 않음
     private String formatDueLabelKST(Date dueDate) {
         if (dueDate == null) return null;
-        var zone = java.time.ZoneId.of("Asia/Seoul");
-        var zdt  = java.time.Instant.ofEpochMilli(dueDate.getTime()).atZone(zone);
-
-        int day = zdt.getDayOfMonth();
-        String suffix = ordinalSuffix(day); // st/nd/rd/th
-        // "AUG" 같은 영문 약어 대문자
-        String mon = zdt.getMonth()
-                .getDisplayName(java.time.format.TextStyle.SHORT, java.util.Locale.ENGLISH)
-                .toUpperCase();
-
-        return mon + " " + day + suffix; // 예: "AUG 21st"
-    }
-
-    private String ordinalSuffix(int day) {
-        // 11,12,13은 예외적으로 th
-        if (day >= 11 && day <= 13) return "th";
-        return switch (day % 10) {
-            case 1 -> "st";
-            case 2 -> "nd";
-            case 3 -> "rd";
-            default -> "th";
-        };
+        return KstTime.dueLabel(dueDate.getTime());
     }
 }
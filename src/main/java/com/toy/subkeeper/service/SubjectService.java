@@ -1,14 +1,16 @@
 package com.toy.subkeeper.service;
 
 import com.toy.subkeeper.DTO.SubjectDto;
-import com.toy.subkeeper.exception.DuplicateSubNameException;
-import com.toy.subkeeper.domain.Semester;
+import com.toy.subkeeper.repository.AssignmentRepo;
 import com.toy.subkeeper.repository.SemesterRepo;
 import com.toy.subkeeper.domain.Subject;
+import com.toy.subkeeper.event.DomainEvent;
+import com.toy.subkeeper.event.DomainEventType;
 import com.toy.subkeeper.repository.SubjectRepo;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -17,31 +19,36 @@ import org.springframework.stereotype.Service;
 
 public class SubjectService {
     private final SubjectRepo subjectRepo;
+    private final AssignmentRepo assignmentRepo;
     private final SemesterRepo semesterRepo;
+    private final CalendarChangeService calendarChangeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AssignmentStatService assignmentStatService;
 
     // 과목 생성
+    /**
+     * 학기는 조회하지 않고 참조(프록시)만 사용, 쿼리는 학기 revision UPDATE + 과목 INSERT 두 번
+     * revision 은 ETag 때문에 어차피 올려야 하므로 먼저 올려서 학기 행을 잠그고(다른 쓰기 경로와 같은 순서) INSERT
+     * 이름 중복은 uk_subject_sem_sub_name, 없는 학기는 외래키(fk_subject_semester)가 막고 GlobalExceptionHandler 가 변환
+     */
+    @Transactional
     public Subject createSubject(Long semId, SubjectDto.SubjectCreateReqDto subjectCreateReqDto) {
         String subName = subjectCreateReqDto.getSubName().trim(); // 공백 제거
-
-        // 이미 있는 과목 이름일 경우
-        if (subjectRepo.existsBySemester_IdAndSubName(semId, subName)) {
-            log.info("동일 학기({})에 이미 존재하는 과목 이름: {}", semId, subName);
-
-            throw new DuplicateSubNameException("동일 학기 내 이미 존재하는 과목입니다: " + subName);
+        if (subName.isEmpty()) {
+            throw new IllegalArgumentException("과목 이름은 필수입니다.");
         }
 
-        // semId 조회
-        Semester semester = semesterRepo.findById(semId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 학기입니다."));
-
+        semesterRepo.bumpRevision(semId);
         // 새로운 과목 생성
         Subject subject = new Subject(
-                subjectCreateReqDto.getSubName(),
-                semester
+                subName,
+                semesterRepo.getReferenceById(semId)
         );
         subjectRepo.save(subject);
-
-        log.info("과목 생성: {} (id = {})", subject.getSubName(), subject.getId());
+        eventPublisher.publishEvent(DomainEvent.builder()
+                .type(DomainEventType.SUBJECT_CREATED)
+                .semId(semId).subId(subject.getId()).count(1).name(subName)
+                .build());
 
         return subject;
     }
@@ -49,11 +56,18 @@ public class SubjectService {
     // 과목 삭제
     @Transactional
     public void deleteSubject(Long subId) {
-        Subject subject = subjectRepo.findById(subId)
-                        .orElseThrow(() -> new RuntimeException("과목을 찾을 수 없습니다."));
-
-        log.info("과목 삭제: (id = {})", subId);
+        Long semId = subjectRepo.findSemIdById(subId)
+                .orElseThrow(() -> new RuntimeException("과목을 찾을 수 없습니다."));
 
-        subjectRepo.deleteById(subId);
+        semesterRepo.bumpRevisionBySubject(subId);
+        calendarChangeService.recordSubjectDeleted(subId);
+        // cascade 대신 과제 -> 과목 순으로 한 번씩 삭제
+        int assignments = assignmentRepo.bulkDeleteBySubId(subId);
+        assignmentStatService.deleteSubject(subId);
+        subjectRepo.bulkDeleteById(subId);
+        eventPublisher.publishEvent(DomainEvent.builder()
+                .type(DomainEventType.SUBJECT_DELETED)
+                .semId(semId).subId(subId).count(assignments)
+                .build());
     }
 }
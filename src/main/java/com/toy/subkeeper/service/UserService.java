@@ -1,20 +1,18 @@
 package com.toy.subkeeper.service;
 
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
 import com.toy.subkeeper.DTO.UserDto;
+import com.toy.subkeeper.auth.GoogleTokenVerifier;
 import com.toy.subkeeper.repository.SemesterRepo;
 import com.toy.subkeeper.domain.User;
+import com.toy.subkeeper.event.DomainEvent;
+import com.toy.subkeeper.event.DomainEventType;
 import com.toy.subkeeper.repository.UserRepo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
 import java.util.Optional;
 
 @Slf4j
@@ -24,28 +22,26 @@ import java.util.Optional;
 public class UserService {
     private final UserRepo userRepo;
     private final SemesterRepo semesterRepo;
-
-    @Value("${google.client.id}")
-    private String googleClientId;
+    private final GoogleTokenVerifier googleTokenVerifier;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public User loginOrSignUp(String idTokenString) {
-        GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(new NetHttpTransport(), new GsonFactory())
-                .setAudience(Collections.singletonList(googleClientId))
-                .build();
-
         try {
-            GoogleIdToken idToken = verifier.verify(idTokenString);
-            if(idToken != null) {
-                GoogleIdToken.Payload payload = idToken.getPayload();
-
-                String email = payload.getEmail();
-                String name = (String) payload.get("name");
+            // 공용 검증기 + 검증 결과 캐시 (공개키는 백그라운드에서 미리 갱신)
+            GoogleTokenVerifier.VerifiedUser verified = googleTokenVerifier.verify(idTokenString);
+            if(verified != null) {
+                String email = verified.getEmail();
+                String name = verified.getName();
 
                 return userRepo.findByEmail(email)
                         .orElseGet(() -> {
-                            log.info("새로운 유저 생성 : {} ({})", name, email);
-                            return userRepo.save(new User(email, name));
+                            User user = userRepo.save(new User(email, name));
+                            eventPublisher.publishEvent(DomainEvent.builder()
+                                    .type(DomainEventType.USER_CREATED)
+                                    .userId(user.getId()).count(1).name(name)
+                                    .build());
+                            return user;
                         });
             } else {
                 throw new IllegalArgumentException(("유효하지 않은 ID 토큰입니다."));
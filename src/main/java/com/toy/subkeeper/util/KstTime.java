@@ -0,0 +1,113 @@
+package com.toy.subkeeper.util;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+/**
+ * 서울 시간(KST) 계산 모음
+ * KST 는 1988년 이후 서머타임이 없는 고정 UTC+9 이므로, 날짜 경계는 epoch millis 정수 연산으로 구함
+ * 마감일 라벨('AUG 21st')은 epoch day 로 찾는 표를 미리 만들어 두고, 표 밖의 날짜가 들어오면 그날 기준으로 표를 다시 만듦
+ */
+public final class KstTime {
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    public static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+    private static final long OFFSET_MILLIS = 9L * 60 * 60 * 1000;
+
+    // 오늘 기준 앞뒤로 라벨을 미리 만들어 둘 기간 (일)
+    private static final int LABEL_DAYS_BEFORE = 400;
+    private static final int LABEL_DAYS_AFTER = 800;
+
+    private static volatile LabelTable labels = LabelTable.around(epochDay(System.currentTimeMillis()));
+
+    private KstTime() {
+    }
+
+    // KST 기준 날짜 번호 (1970-01-01 = 0)
+    public static long epochDay(long millis) {
+        return Math.floorDiv(millis + OFFSET_MILLIS, DAY_MILLIS);
+    }
+
+    // 그날 00:00:00.000 (KST)
+    public static long startOfDay(long millis) {
+        return startOfEpochDay(epochDay(millis));
+    }
+
+    // 그날 23:59:59.999 (KST)
+    public static long endOfDay(long millis) {
+        return startOfEpochDay(epochDay(millis) + 1) - 1;
+    }
+
+    // 그날 0시부터 지난 분 (KST)
+    public static int minuteOfDay(long millis) {
+        return (int) ((millis - startOfDay(millis)) / 60_000);
+    }
+
+    public static long startOfEpochDay(long epochDay) {
+        return epochDay * DAY_MILLIS - OFFSET_MILLIS;
+    }
+
+    public static long startOfDay(LocalDate date) {
+        return startOfEpochDay(date.toEpochDay());
+    }
+
+    // 'AUG 21st' 형식 라벨, 표에 있는 같은 String 을 그대로 돌려줌
+    public static String dueLabel(long millis) {
+        long day = epochDay(millis);
+        LabelTable table = labels;
+        String label = table.get(day);
+        if (label != null) return label;
+
+        // 오늘에서 멀리 떨어진 날짜 하나 때문에 표를 옮기지 않도록, 오늘 기준 범위 안일 때만 다시 만듦
+        long today = epochDay(System.currentTimeMillis());
+        if (day >= today - LABEL_DAYS_BEFORE && day < today + LABEL_DAYS_AFTER) {
+            table = LabelTable.around(today);
+            labels = table;
+            return table.get(day);
+        }
+        return buildLabel(day);
+    }
+
+    private static String buildLabel(long epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        int day = date.getDayOfMonth();
+        String mon = date.getMonth().getDisplayName(TextStyle.SHORT, Locale.ENGLISH).toUpperCase(Locale.ENGLISH);
+        return mon + " " + day + ordinalSuffix(day);
+    }
+
+    private static String ordinalSuffix(int day) {
+        // 11,12,13은 예외적으로 th
+        if (day >= 11 && day <= 13) return "th";
+        return switch (day % 10) {
+            case 1 -> "st";
+            case 2 -> "nd";
+            case 3 -> "rd";
+            default -> "th";
+        };
+    }
+
+    private static final class LabelTable {
+        private final long firstDay;
+        private final String[] labels;
+
+        private LabelTable(long firstDay, String[] labels) {
+            this.firstDay = firstDay;
+            this.labels = labels;
+        }
+
+        private static LabelTable around(long today) {
+            long first = today - LABEL_DAYS_BEFORE;
+            String[] labels = new String[LABEL_DAYS_BEFORE + LABEL_DAYS_AFTER];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = buildLabel(first + i).intern();
+            }
+            return new LabelTable(first, labels);
+        }
+
+        private String get(long epochDay) {
+            long i = epochDay - firstDay;
+            return (i >= 0 && i < labels.length) ? labels[(int) i] : null;
+        }
+    }
+}
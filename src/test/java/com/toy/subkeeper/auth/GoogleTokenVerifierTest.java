@@ -0,0 +1,164 @@
+package com.toy.subkeeper.auth;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.json.webtoken.JsonWebSignature;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.Certificate;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 인증서 서버로 구글 ID 토큰 검증을 오프라인에서 확인
+ * 키는 JDK 의 keytool 로 테스트마다 새로 만듦
+ */
+class GoogleTokenVerifierTest {
+    private static final String CLIENT_ID = "test-client.apps.googleusercontent.com";
+    private static final String KID = "local";
+    private static final char[] PASSWORD = "changeit".toCharArray();
+
+    @TempDir
+    static Path keyDir;
+
+    private static PrivateKey signingKey;
+    private static PrivateKey otherKey; // 인증서 서버에 없는 키
+    private static LocalGoogleCertServer certServer;
+
+    private final AtomicInteger verifyCalls = new AtomicInteger();
+    private GoogleTokenVerifier tokenVerifier;
+
+    @BeforeAll
+    static void startCertServer() throws Exception {
+        KeyStore.PrivateKeyEntry local = generateKey("local");
+        signingKey = local.getPrivateKey();
+        otherKey = generateKey("other").getPrivateKey();
+        certServer = new LocalGoogleCertServer(KID, pem(local.getCertificate()), 3600);
+    }
+
+    @AfterAll
+    static void stopCertServer() {
+        if (certServer != null) certServer.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        GooglePublicKeysManager keysManager = new GooglePublicKeysManager.Builder(new NetHttpTransport(), GsonFactory.getDefaultInstance())
+                .setPublicCertsEncodedUrl(certServer.certsUrl())
+                .build();
+        GoogleIdTokenVerifier counting = new GoogleIdTokenVerifier(
+                new GoogleIdTokenVerifier.Builder(keysManager).setAudience(List.of(CLIENT_ID))) {
+            @Override
+            public GoogleIdToken verify(String idTokenString) throws GeneralSecurityException, IOException {
+                verifyCalls.incrementAndGet();
+                return super.verify(idTokenString);
+            }
+        };
+        tokenVerifier = new GoogleTokenVerifier(counting, 300, 100);
+    }
+
+    @Test
+    void 유효한_토큰은_통과() throws Exception {
+        long now = System.currentTimeMillis() / 1000;
+        String token = sign(signingKey, now, now + 3600);
+
+        GoogleTokenVerifier.VerifiedUser user = tokenVerifier.verify(token);
+
+        assertThat(user).isNotNull();
+        assertThat(user.getEmail()).isEqualTo("user@test.local");
+        assertThat(user.getName()).isEqualTo("테스트");
+        assertThat(user.getExpiresAt()).isEqualTo((now + 3600) * 1000L);
+    }
+
+    @Test
+    void 같은_토큰은_다시_검증하지_않음() throws Exception {
+        long now = System.currentTimeMillis() / 1000;
+        String token = sign(signingKey, now, now + 3600);
+
+        GoogleTokenVerifier.VerifiedUser first = tokenVerifier.verify(token);
+        GoogleTokenVerifier.VerifiedUser second = tokenVerifier.verify(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifyCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 만료된_토큰은_실패() throws Exception {
+        long now = System.currentTimeMillis() / 1000;
+        String token = sign(signingKey, now - 7200, now - 3600);
+
+        assertThat(tokenVerifier.verify(token)).isNull();
+        assertThat(tokenVerifier.verify(token)).isNull(); // 실패는 캐시하지 않음
+        assertThat(verifyCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 다른_키로_서명한_토큰은_실패() throws Exception {
+        long now = System.currentTimeMillis() / 1000;
+        String token = sign(otherKey, now, now + 3600);
+
+        assertThat(tokenVerifier.verify(token)).isNull();
+        assertThat(certServer.requests()).isPositive(); // 서명 검증에 로컬 서버의 인증서를 받아씀
+    }
+
+    private static String sign(PrivateKey key, long issuedAt, long expiresAt) throws GeneralSecurityException, IOException {
+        JsonWebSignature.Header header = new JsonWebSignature.Header()
+                .setAlgorithm("RS256")
+                .setKeyId(KID);
+        GoogleIdToken.Payload payload = new GoogleIdToken.Payload()
+                .setIssuer("https://accounts.google.com")
+                .setAudience(CLIENT_ID)
+                .setSubject("1234567890")
+                .setIssuedAtTimeSeconds(issuedAt)
+                .setExpirationTimeSeconds(expiresAt)
+                .setEmail("user@test.local");
+        payload.set("name", "테스트");
+        return JsonWebSignature.signUsingRsaSha256(key, GsonFactory.getDefaultInstance(), header, payload);
+    }
+
+    // keytool 로 RSA 키 + 자체 서명 인증서 생성
+    private static KeyStore.PrivateKeyEntry generateKey(String alias) throws Exception {
+        Path store = keyDir.resolve(alias + ".p12");
+        String keytool = Path.of(System.getProperty("java.home"), "bin", "keytool").toString();
+        Process process = new ProcessBuilder(keytool, "-genkeypair",
+                "-alias", alias, "-keyalg", "RSA", "-keysize", "2048", "-validity", "1",
+                "-dname", "CN=" + alias, "-storetype", "PKCS12", "-keystore", store.toString(),
+                "-storepass", new String(PASSWORD), "-keypass", new String(PASSWORD))
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("keytool 실패 : " + output);
+        }
+
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = Files.newInputStream(store)) {
+            keyStore.load(in, PASSWORD);
+        }
+        return (KeyStore.PrivateKeyEntry) keyStore.getEntry(alias, new KeyStore.PasswordProtection(PASSWORD));
+    }
+
+    private static String pem(Certificate certificate) throws GeneralSecurityException {
+        return "-----BEGIN CERTIFICATE-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(certificate.getEncoded())
+                + "\n-----END CERTIFICATE-----";
+    }
+}
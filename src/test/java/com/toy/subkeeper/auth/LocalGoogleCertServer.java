@@ -0,0 +1,51 @@
+package com.toy.subkeeper.auth;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 테스트용 구글 인증서 서버 대역
+ * 인증서(PEM)를 구글 v1 certs 와 같은 형식({"kid": "PEM"})으로 내려줌
+ * 빈 포트에 뜨므로 certsUrl() 을 GooglePublicKeysManager 에 넘기고 같은 키로 서명한 토큰을 쓰면 됨
+ */
+class LocalGoogleCertServer implements AutoCloseable {
+    private final HttpServer server;
+    private int requests;
+
+    LocalGoogleCertServer(String kid, String pem, long maxAgeSeconds) throws IOException {
+        byte[] body = ("{\"" + kid + "\":\"" + pem.trim().replace("\r", "").replace("\n", "\\n") + "\\n\"}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/oauth2/v1/certs", exchange -> {
+            synchronized (this) {
+                requests++;
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+            exchange.getResponseHeaders().add("Cache-Control", "public, max-age=" + maxAgeSeconds);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+    }
+
+    String certsUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/oauth2/v1/certs";
+    }
+
+    // 인증서를 내려준 횟수
+    synchronized int requests() {
+        return requests;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
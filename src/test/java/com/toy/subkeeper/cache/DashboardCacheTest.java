@@ -0,0 +1,155 @@
+package com.toy.subkeeper.cache;
+
+import com.toy.subkeeper.DTO.DashboardDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DashboardCacheTest {
+    private final DashboardCache cache = new DashboardCache(100, 10_000);
+
+    // 사용자 1 : 학기 10(과목 100, 101), 학기 11(과목 110) / 사용자 2 : 학기 20(과목 200)
+    private final DashboardCache.Key sem10 = DashboardCache.key(1L, 10L, null, null);
+    private final DashboardCache.Key sem10Sub = DashboardCache.key(1L, 10L, 100L, null);
+    private final DashboardCache.Key sem11 = DashboardCache.key(1L, 11L, null, null);
+    private final DashboardCache.Key sem20 = DashboardCache.key(2L, null, null, List.of(1));
+
+    @Test
+    void 과목으로_지우면_그_과목이_있는_응답만() {
+        putAll();
+
+        cache.evictSubject(110L);
+
+        assertThat(cache.get(sem11)).isNull();
+        assertThat(cache.get(sem10)).isNotNull();
+        assertThat(cache.get(sem10Sub)).isNotNull();
+        assertThat(cache.get(sem20)).isNotNull();
+    }
+
+    @Test
+    void 배지는_사이드바에_그_학기가_나오는_응답_모두() {
+        putAll();
+
+        cache.evictSemesterBadge(11L);
+
+        assertThat(cache.get(sem10)).isNull();
+        assertThat(cache.get(sem10Sub)).isNull();
+        assertThat(cache.get(sem11)).isNull();
+        assertThat(cache.get(sem20)).isNotNull();
+    }
+
+    @Test
+    void 사용자와_학기로_지우기() {
+        putAll();
+
+        cache.evictSemester(20L); // 키는 최신 학기(null)지만 응답의 실제 학기로 찾음
+        assertThat(cache.get(sem20)).isNull();
+
+        cache.evictUser(1L);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void 같은_키를_다시_넣으면_이전_응답의_색인은_남지_않음() {
+        cache.put(sem10, view(1L, 10L, List.of(100L, 101L), List.of(10L, 11L)), cache.generation());
+        cache.put(sem10, view(1L, 10L, List.of(101L), List.of(10L, 11L)), cache.generation()); // 과목 100 삭제 후
+
+        cache.evictSubject(100L);
+        assertThat(cache.get(sem10)).isNotNull();
+
+        cache.evictSubject(101L);
+        assertThat(cache.get(sem10)).isNull();
+    }
+
+    @Test
+    void 조회_중에_무효화가_있었으면_저장하지_않음() {
+        long loadedAt = cache.generation();
+        cache.evictSubject(999L);
+
+        cache.put(sem10, view(1L, 10L, List.of(100L), List.of(10L)), loadedAt);
+
+        assertThat(cache.get(sem10)).isNull();
+    }
+
+    @Test
+    void 조회_중에_다른_사용자나_학기가_무효화된_것은_저장을_막지_않음() {
+        long loadedAt = cache.generation();
+        cache.evictSubject(200L);
+        cache.evictSemesterBadge(20L);
+        cache.evictUser(2L);
+
+        cache.put(sem10, view(1L, 10L, List.of(100L), List.of(10L, 11L)), loadedAt);
+
+        assertThat(cache.get(sem10)).isNotNull();
+    }
+
+    @Test
+    void 조회_중에_응답에_들어간_학기나_사용자가_무효화됐으면_저장하지_않음() {
+        long loadedAt = cache.generation();
+        cache.evictSemesterBadge(11L); // 사이드바에만 나오는 학기
+        cache.put(sem10, view(1L, 10L, List.of(100L), List.of(10L, 11L)), loadedAt);
+        assertThat(cache.get(sem10)).isNull();
+
+        loadedAt = cache.generation();
+        cache.evictUser(1L);
+        cache.put(sem10, view(1L, 10L, List.of(100L), List.of(10L, 11L)), loadedAt);
+        assertThat(cache.get(sem10)).isNull();
+
+        loadedAt = cache.generation();
+        cache.evictAll();
+        cache.put(sem10, view(1L, 10L, List.of(100L), List.of(10L, 11L)), loadedAt);
+        assertThat(cache.get(sem10)).isNull();
+    }
+
+    @Test
+    void 정리된_stamp_보다_먼저_시작한_조회는_저장하지_않음() {
+        DashboardCache small = new DashboardCache(100, 4);
+        long loadedAt = small.generation();
+        small.evictSubject(100L);
+        for (long id = 1000; id < 1010; id++) {
+            small.evictSubject(id); // 과목 100 의 stamp 가 정리될 만큼
+        }
+
+        small.put(sem10, view(1L, 10L, List.of(100L), List.of(10L)), loadedAt);
+        assertThat(small.get(sem10)).isNull();
+
+        small.put(sem10, view(1L, 10L, List.of(100L), List.of(10L)), small.generation());
+        assertThat(small.get(sem10)).isNotNull();
+    }
+
+    @Test
+    void 크기_초과로_밀려나도_남은_항목은_지울_수_있음() {
+        DashboardCache small = new DashboardCache(2, 10_000);
+        for (long semId = 1; semId <= 50; semId++) {
+            small.put(DashboardCache.key(1L, semId, null, null), view(1L, semId, List.of(semId * 10), List.of(semId)), small.generation());
+        }
+        small.evictUser(1L);
+
+        assertThat(small.size()).isZero();
+    }
+
+    private void putAll() {
+        List<Long> menu1 = List.of(10L, 11L);
+        cache.put(sem10, view(1L, 10L, List.of(100L, 101L), menu1), cache.generation());
+        cache.put(sem10Sub, view(1L, 10L, List.of(100L, 101L), menu1), cache.generation());
+        cache.put(sem11, view(1L, 11L, List.of(110L), menu1), cache.generation());
+        cache.put(sem20, view(2L, 20L, List.of(200L), List.of(20L)), cache.generation());
+    }
+
+    private static DashboardDto.DashboardViewDto view(Long userId, Long semId, List<Long> subIds, List<Long> menuSemIds) {
+        return DashboardDto.DashboardViewDto.builder()
+                .dashboard(DashboardDto.DashboardDtoBuilder.builder()
+                        .userId(userId)
+                        .semId(semId)
+                        .subjectList(subIds.stream()
+                                .map(id -> DashboardDto.DashboardDtoBuilder.SubjectListDto.builder().subId(id).build())
+                                .toList())
+                        .build())
+                .semesters(menuSemIds.stream()
+                        .map(id -> DashboardDto.DashboardViewDto.SemesterMenuItemDto.builder().semId(id).build())
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.toy.subkeeper.config;
+
+import com.toy.subkeeper.DTO.SemesterDto;
+import com.toy.subkeeper.domain.User;
+import com.toy.subkeeper.event.DomainEvent;
+import com.toy.subkeeper.event.DomainEventType;
+import com.toy.subkeeper.repository.UserRepo;
+import com.toy.subkeeper.service.SemesterService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * primary / replica 를 서로 다른 H2 메모리 DB 로 띄우고, 각 DB 에만 있는 표시 행으로 실제로 어느 쪽에서 읽었는지 확인
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.url=jdbc:h2:mem:routing-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "datasource.replica.copy-schema=true"
+})
+class ReplicaRoutingTest {
+    @Autowired JdbcTemplate jdbcTemplate; // 라우팅 DataSource
+    @Autowired @Qualifier("primaryDataSource") DataSource primaryDataSource;
+    @Autowired @Qualifier("replicaDataSource") DataSource replicaDataSource;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired RecentWriteTracker recentWriteTracker;
+    @Autowired ReadYourWritesInterceptor readYourWritesInterceptor;
+    @Autowired SemesterService semesterService;
+    @Autowired UserRepo userRepo;
+
+    @BeforeEach
+    void markDatabases() {
+        mark(primaryDataSource, "primary");
+        mark(replicaDataSource, "replica"); // H2 는 읽기 전용 커넥션에서도 쓰기를 막지 않음
+    }
+
+    @AfterEach
+    void clearPin() {
+        ReadWriteRoutingDataSource.clear();
+    }
+
+    @Test
+    void replica_에도_스키마가_복사됨() {
+        Integer tables = new JdbcTemplate(replicaDataSource).queryForObject(
+                "select count(*) from information_schema.tables where table_name in ('assignment', 'semester', 'subject')",
+                Integer.class);
+        assertThat(tables).isEqualTo(3);
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_replica() {
+        assertThat(read(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void 쓰기_트랜잭션과_트랜잭션_밖은_primary() {
+        assertThat(read(false)).isEqualTo("primary");
+        assertThat(whereAmI()).isEqualTo("primary");
+    }
+
+    @Test
+    void pinPrimary_면_읽기_전용도_primary() {
+        ReadWriteRoutingDataSource.pinPrimary();
+        assertThat(read(true)).isEqualTo("primary");
+
+        ReadWriteRoutingDataSource.clear();
+        assertThat(read(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void 최근에_쓴_학기의_요청은_primary_에서_읽고_비동기_처리로_넘어가면_풀림() {
+        Long semId = 424242L;
+        recentWriteTracker.onEvent(DomainEvent.builder()
+                .type(DomainEventType.ASSIGNMENT_CREATED).semId(semId).build());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/semester/" + semId + "/events");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("semId", semId.toString()));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        readYourWritesInterceptor.preHandle(request, response, new Object());
+        assertThat(read(true)).isEqualTo("primary");
+
+        // SSE/.ics 처럼 비동기로 넘어가면 요청 스레드의 pin 을 지워야 다음 요청이 물려받지 않음
+        readYourWritesInterceptor.afterConcurrentHandlingStarted(request, response, new Object());
+        assertThat(read(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void 캐시에_넣는_대시보드_조회와_ETag_는_pin_없이도_primary() {
+        // 이 테스트의 replica 는 스키마만 복사된 빈 DB 라, replica 에서 읽으면 학기가 없다고 실패함
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        Long userId = userRepo.save(new User(tag + "@test.local", "user-" + tag)).getId();
+        Long semId = semesterService.createSemester(userId,
+                SemesterDto.SemesterCreateReqDto.builder().semName("2025-" + tag).build()).getId();
+        ReadWriteRoutingDataSource.clear();
+
+        assertThat(semesterService.getDashboardView(userId, semId, null, null).getDashboard().getSemId()).isEqualTo(semId);
+        String etag = semesterService.getDashboardEtag(userId);
+        assertThat(etag).isNotEqualTo(emptyEtag());
+
+        // 끝난 뒤에는 pin 이 남지 않음
+        assertThat(read(true)).isEqualTo("replica");
+    }
+
+    // 학기가 하나도 없는 사용자의 ETag (replica 에서 읽었다면 나왔을 값)
+    private String emptyEtag() {
+        return semesterService.getDashboardEtag(-1L);
+    }
+
+    private String read(boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(readOnly);
+        return tx.execute(status -> whereAmI());
+    }
+
+    private String whereAmI() {
+        return jdbcTemplate.queryForObject("select name from routing_marker", String.class);
+    }
+
+    private static void mark(DataSource dataSource, String name) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table if not exists routing_marker (name varchar(20))");
+        jdbc.update("delete from routing_marker");
+        jdbc.update("insert into routing_marker (name) values (?)", name);
+    }
+}
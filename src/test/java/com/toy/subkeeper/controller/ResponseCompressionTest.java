@@ -0,0 +1,121 @@
+package com.toy.subkeeper.controller;
+
+import com.toy.subkeeper.DTO.AssignmentDto;
+import com.toy.subkeeper.DTO.SemesterDto;
+import com.toy.subkeeper.DTO.SubjectDto;
+import com.toy.subkeeper.domain.User;
+import com.toy.subkeeper.repository.UserRepo;
+import com.toy.subkeeper.service.AssignmentService;
+import com.toy.subkeeper.service.SemesterService;
+import com.toy.subkeeper.service.SubjectService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ETag 가 붙은 큰 응답이 실제로 gzip 되는지 (curl -H 'Accept-Encoding: gzip' 과 같은 요청)
+ * Tomcat 은 강한 ETag 응답을 압축하지 않으므로 약한 ETag 여야 함
+ * java.net.http.HttpClient 는 응답을 자동으로 풀지 않아 Content-Encoding 을 그대로 볼 수 있음
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ResponseCompressionTest {
+    private static final long DAY = 24L * 60 * 60 * 1000;
+
+    @LocalServerPort int port;
+    @Autowired SemesterService semesterService;
+    @Autowired SubjectService subjectService;
+    @Autowired AssignmentService assignmentService;
+    @Autowired UserRepo userRepo;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Long userId;
+    private Long semId;
+
+    @BeforeEach
+    void seed() {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        userId = userRepo.save(new User(tag + "@test.local", "user-" + tag)).getId();
+        semId = semesterService.createSemester(userId,
+                SemesterDto.SemesterCreateReqDto.builder().semName("2025-" + tag).build()).getId();
+        Long subId = subjectService.createSubject(semId, SubjectDto.SubjectCreateReqDto.builder().subName("자료구조").build()).getId();
+
+        // min-response-size(2KB) 를 넘도록 과제 여러 개
+        List<AssignmentDto.AssignmentCreateReqDto> items = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            items.add(AssignmentDto.AssignmentCreateReqDto.builder()
+                    .assignName("주간 실습 과제 " + i)
+                    .dueDate(new Date(System.currentTimeMillis() + (i + 3) * DAY))
+                    .category(i % 3)
+                    .build());
+        }
+        assignmentService.createAssignments(subId, items);
+    }
+
+    @Test
+    void 대시보드는_약한_ETag_로_gzip() throws Exception {
+        assertGzipped("/semester/" + semId + "/dashboard", "{");
+    }
+
+    @Test
+    void 압축_대시보드도_gzip() throws Exception {
+        assertGzipped("/semester/" + semId + "/dashboard?format=compact", "{");
+    }
+
+    @Test
+    void 달력은_약한_ETag_로_gzip() throws Exception {
+        assertGzipped("/semester/" + semId + "/calendar", "{");
+    }
+
+    @Test
+    void ics_구독도_gzip() throws Exception {
+        assertGzipped("/semester/" + semId + "/calendar.ics", "BEGIN:VCALENDAR");
+    }
+
+    private void assertGzipped(String path, String bodyPrefix) throws Exception {
+        HttpResponse<byte[]> res = get(path, null);
+        assertThat(res.statusCode()).isEqualTo(200);
+        String etag = res.headers().firstValue("ETag").orElseThrow();
+        assertThat(etag).startsWith("W/\"");
+        assertThat(res.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(gunzip(res.body())).startsWith(bodyPrefix);
+
+        // 약한 비교라 압축된 응답의 ETag 로도 304
+        HttpResponse<byte[]> notModified = get(path, etag);
+        assertThat(notModified.statusCode()).isEqualTo(304);
+        assertThat(notModified.headers().firstValue("ETag")).hasValue(etag);
+    }
+
+    private HttpResponse<byte[]> get(String path, String ifNoneMatch) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept-Encoding", "gzip")
+                .header("X-USER-ID", String.valueOf(userId))
+                .GET();
+        if (ifNoneMatch != null) {
+            builder.header("If-None-Match", ifNoneMatch);
+        }
+        return client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.toy.subkeeper.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MpscRingBufferTest {
+
+    @Test
+    void 크기는_2의_거듭제곱만() {
+        assertThatThrownBy(() -> new MpscRingBuffer<Integer>(6)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(new MpscRingBuffer<Integer>(8).capacity()).isEqualTo(8);
+    }
+
+    @Test
+    void 가득_차면_넣지_않고_false() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        List<Integer> out = new ArrayList<>();
+        assertThat(buffer.drainTo(out, 10)).isEqualTo(4);
+        assertThat(out).containsExactly(0, 1, 2, 3);
+        assertThat(buffer.offer(4)).isTrue(); // 꺼낸 뒤에는 다시 들어감
+    }
+
+    @Test
+    void 여러_바퀴를_돌아도_순서대로_꺼냄() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        List<Integer> out = new ArrayList<>();
+        int next = 0;
+        assertThat(buffer.offer(next++)).isTrue(); // 한 칸 밀어서 넣고 꺼내는 위치가 배열 끝을 넘나들게
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 3; i++) {
+                assertThat(buffer.offer(next++)).isTrue();
+            }
+            assertThat(buffer.drainTo(out, 3)).isEqualTo(3);
+        }
+        buffer.drainTo(out, 100);
+
+        assertThat(out).hasSize(31);
+        for (int i = 0; i < out.size(); i++) {
+            assertThat(out.get(i)).isEqualTo(i);
+        }
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void 여러_스레드가_넣어도_빠지거나_겹치지_않음() throws Exception {
+        int producers = 8;
+        int perProducer = 20_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Integer>> fullCounts = new ArrayList<>(); // 가득 차서 다시 시도한 횟수
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            fullCounts.add(pool.submit(() -> {
+                start.await();
+                int full = 0;
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        full++;
+                        Thread.onSpinWait();
+                    }
+                }
+                return full;
+            }));
+        }
+
+        start.countDown();
+        Set<Integer> seen = new HashSet<>();
+        List<Integer> batch = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (seen.size() < producers * perProducer && System.nanoTime() < deadline) {
+            batch.clear();
+            buffer.drainTo(batch, 256);
+            for (Integer v : batch) {
+                assertThat(seen.add(v)).as("중복 %d", v).isTrue();
+            }
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(seen).hasSize(producers * perProducer);
+        assertThat(buffer.size()).isZero();
+        for (Future<Integer> f : fullCounts) {
+            assertThat(f.get()).isNotNegative(); // 넣는 쪽 예외가 있으면 여기서 드러남
+        }
+    }
+}
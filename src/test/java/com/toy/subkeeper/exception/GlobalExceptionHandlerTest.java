@@ -0,0 +1,68 @@
+package com.toy.subkeeper.exception;
+
+import com.toy.subkeeper.DTO.SemesterDto;
+import com.toy.subkeeper.DTO.SubjectDto;
+import com.toy.subkeeper.domain.User;
+import com.toy.subkeeper.repository.UserRepo;
+import com.toy.subkeeper.service.SemesterService;
+import com.toy.subkeeper.service.SubjectService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+// 부모를 조회하지 않는 생성 경로의 제약 위반이 예전과 같은 응답으로 바뀌는지
+@SpringBootTest
+class GlobalExceptionHandlerTest {
+    private static final Long MISSING_ID = 999_999_999L;
+
+    @Autowired SemesterService semesterService;
+    @Autowired SubjectService subjectService;
+    @Autowired UserRepo userRepo;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void 없는_유저의_학기_생성은_404() {
+        DataIntegrityViolationException e = catchThrowableOfType(DataIntegrityViolationException.class,
+                () -> semesterService.createSemester(MISSING_ID, semester("2025-1")));
+
+        ResponseEntity<String> res = handler.handleDataIntegrity(e);
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(res.getBody()).isEqualTo("존재하지 않는 유저입니다.");
+    }
+
+    @Test
+    void 없는_학기의_과목_생성은_404() {
+        DataIntegrityViolationException e = catchThrowableOfType(DataIntegrityViolationException.class,
+                () -> subjectService.createSubject(MISSING_ID, SubjectDto.SubjectCreateReqDto.builder().subName("자료구조").build()));
+
+        ResponseEntity<String> res = handler.handleDataIntegrity(e);
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(res.getBody()).isEqualTo("존재하지 않는 학기입니다.");
+    }
+
+    @Test
+    void 이름_중복은_409() {
+        Long userId = userRepo.save(new User(UUID.randomUUID() + "@test.local", "user")).getId();
+        semesterService.createSemester(userId, semester("2025-1"));
+
+        DataIntegrityViolationException e = catchThrowableOfType(DataIntegrityViolationException.class,
+                () -> semesterService.createSemester(userId, semester("2025-1")));
+
+        ResponseEntity<String> res = handler.handleDataIntegrity(e);
+        assertThat(res.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(res.getBody()).isEqualTo("해당 사용자에 이미 존재하는 학기입니다.");
+    }
+
+    private static SemesterDto.SemesterCreateReqDto semester(String name) {
+        return SemesterDto.SemesterCreateReqDto.builder().semName(name).build();
+    }
+}
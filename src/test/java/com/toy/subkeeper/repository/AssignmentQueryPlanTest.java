@@ -0,0 +1,145 @@
+package com.toy.subkeeper.repository;
+
+import com.toy.subkeeper.DTO.AssignmentDto;
+import com.toy.subkeeper.DTO.SemesterDto;
+import com.toy.subkeeper.DTO.SubjectDto;
+import com.toy.subkeeper.domain.User;
+import com.toy.subkeeper.service.AssignmentService;
+import com.toy.subkeeper.service.SemesterService;
+import com.toy.subkeeper.service.SubjectService;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대시보드/달력 조회가 인덱스 범위 스캔을 타는지, Hibernate 가 실제로 만든 SQL 을 잡아서 H2 EXPLAIN 으로 확인
+ * 시작 시 손으로 쓴 SQL 을 EXPLAIN 하던 방식은 운영 쿼리와 모양이 달라질 수 있어서 테스트로 옮김
+ */
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.toy.subkeeper.repository.AssignmentQueryPlanTest$CapturingInspector")
+class AssignmentQueryPlanTest {
+    private static final long DAY = 24L * 60 * 60 * 1000;
+    private static final String SEM_DUE = "idx_assignment_sem_due";
+    private static final String SUB_DUE = "idx_assignment_sub_due";
+    // EXPLAIN 결과에서 assignment 테이블 뒤에 붙는 접근 방식 주석 (/* public.idx_...: sem_id = ?1 */)
+    private static final Pattern ASSIGNMENT_ACCESS = Pattern.compile("public\\.assignment\\s+\\w+\\s*/\\*\\s*(.*?)\\*/");
+
+    @Autowired AssignmentRepo assignmentRepo;
+    @Autowired SemesterService semesterService;
+    @Autowired SubjectService subjectService;
+    @Autowired AssignmentService assignmentService;
+    @Autowired UserRepo userRepo;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private Long semId;
+    private Long subId;
+
+    @BeforeEach
+    void seed() {
+        // 다른 학기 행도 충분히 있어야 옵티마이저가 풀 스캔 대신 인덱스를 고름
+        for (int i = 0; i < 3; i++) {
+            seedSemester(5, 40);
+        }
+        semId = seedSemester(5, 40);
+        subId = jdbcTemplate.queryForObject("select min(id) from subject where sem_id = ?", Long.class, semId);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void 대시보드_조회는_조건_조합마다_인덱스를_탐() {
+        assertIndex(capture(() -> assignmentRepo.findDashboardRows(semId, null, null)), Set.of(SEM_DUE));
+        assertIndex(capture(() -> assignmentRepo.findDashboardRows(semId, null, List.of(0, 2))), Set.of(SEM_DUE));
+        // 과목 조건이 있으면 과목별 인덱스가 더 좁을 수 있음
+        assertIndex(capture(() -> assignmentRepo.findDashboardRows(semId, subId, null)), Set.of(SEM_DUE, SUB_DUE));
+        assertIndex(capture(() -> assignmentRepo.findDashboardRows(semId, subId, List.of(1))), Set.of(SEM_DUE, SUB_DUE));
+    }
+
+    @Test
+    void 달력_조회는_학기_인덱스를_타고_과목은_PK_로_붙음() {
+        assertIndex(capture(() -> assignmentRepo.findCalendarRows(semId)), Set.of(SEM_DUE));
+
+        Date now = new Date();
+        assertIndex(capture(() -> assignmentRepo.findCalendarRowsInWindow(semId,
+                new Date(now.getTime() - 7 * DAY), new Date(now.getTime() + 7 * DAY),
+                new Date(now.getTime() - 8 * DAY), 0L, PageRequest.of(0, 50))), Set.of(SEM_DUE));
+
+        List<Long> ids = assignmentRepo.findCalendarRows(semId).stream()
+                .limit(3)
+                .map(AssignmentRepo.CalendarRowView::getAssignId)
+                .toList();
+        // id 목록이면 PK 로 찾는 게 더 싸므로 PK 도 허용
+        assertIndex(capture(() -> assignmentRepo.findCalendarRowsByIds(semId, ids)), Set.of(SEM_DUE, "primary_key"));
+    }
+
+    // 실행하면서 Hibernate 가 만든 assignment 조회 SQL
+    private String capture(Runnable query) {
+        CapturingInspector.SQL.clear();
+        query.run();
+        return CapturingInspector.SQL.stream()
+                .filter(sql -> sql.toLowerCase().startsWith("select") && sql.toLowerCase().contains(" from assignment "))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("assignment 조회 SQL 이 없음 : " + CapturingInspector.SQL));
+    }
+
+    private void assertIndex(String sql, Set<String> allowed) {
+        // H2 의 EXPLAIN 은 파라미터를 묶지 않아도 계획을 보여줌
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class)
+                .replace("\"", "")
+                .toLowerCase();
+
+        Matcher access = ASSIGNMENT_ACCESS.matcher(plan);
+        assertThat(access.find()).as("assignment 접근 방식이 없음 : %s", plan).isTrue();
+        assertThat(allowed).as("%s\n=> %s", sql, plan)
+                .anyMatch(index -> access.group(1).contains(index));
+        assertThat(plan).as("풀 스캔 : %s", plan).doesNotContain("tablescan");
+    }
+
+    private Long seedSemester(int subjects, int assignmentsPerSubject) {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        Long userId = userRepo.save(new User(tag + "@test.local", "user-" + tag)).getId();
+        Long newSemId = semesterService.createSemester(userId,
+                SemesterDto.SemesterCreateReqDto.builder().semName("2025-" + tag).build()).getId();
+        long now = System.currentTimeMillis();
+
+        for (int j = 0; j < subjects; j++) {
+            Long newSubId = subjectService.createSubject(newSemId,
+                    SubjectDto.SubjectCreateReqDto.builder().subName("subject" + j).build()).getId();
+            List<AssignmentDto.AssignmentCreateReqDto> items = new ArrayList<>();
+            for (int k = 0; k < assignmentsPerSubject; k++) {
+                items.add(AssignmentDto.AssignmentCreateReqDto.builder()
+                        .assignName("assignment" + k)
+                        .dueDate(new Date(now + (k - assignmentsPerSubject / 2) * DAY))
+                        .category(k % 3)
+                        .build());
+            }
+            assignmentService.createAssignments(newSubId, items);
+        }
+        return newSemId;
+    }
+
+    // Hibernate 가 만든 SQL 을 모아둠 (Hibernate 가 직접 생성하므로 static 으로 공유)
+    public static class CapturingInspector implements StatementInspector {
+        static final List<String> SQL = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            SQL.add(sql.replaceAll("\\s+", " ").trim());
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.toy.subkeeper.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DueSoonTimerWheelTest {
+    private static final long MINUTE = 60_000L;
+    private static final long HOUR = 60 * MINUTE;
+
+    private final DueSoonTimerWheel wheel = new DueSoonTimerWheel();
+    private long t0;
+
+    @BeforeEach
+    void setUp() {
+        t0 = 1_700_000_000_000L;
+        wheel.reset(t0);
+    }
+
+    @Test
+    void 지난_시각은_바로_만료() {
+        wheel.schedule(1L, t0 - MINUTE);
+
+        assertThat(wheel.pending()).isEqualTo(1);
+        assertThat(wheel.poll(10)).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void 바닥_휠_항목은_칸이_끝날_때_만료() {
+        wheel.schedule(1L, t0 + 10 * MINUTE);
+
+        wheel.advance(t0 + 9 * MINUTE);
+        assertThat(wheel.poll(10)).isEmpty();
+
+        wheel.advance(t0 + 11 * MINUTE);
+        assertThat(wheel.poll(10)).containsExactly(1L);
+    }
+
+    @Test
+    void 상위_휠_항목은_내려와도_전환_시각_전에는_만료되지_않음() {
+        long fireAt = t0 + 72 * HOUR + 30 * MINUTE; // 두 단계 위 휠까지 올라감
+        wheel.schedule(1L, fireAt);
+
+        for (long now = t0; now < fireAt - MINUTE; now += 7 * MINUTE) {
+            wheel.advance(now);
+            assertThat(wheel.poll(10)).as("now=%d", now - t0).isEmpty();
+        }
+        assertThat(wheel.size()).isEqualTo(1);
+
+        wheel.advance(fireAt + MINUTE);
+        assertThat(wheel.poll(10)).containsExactly(1L);
+    }
+
+    @Test
+    void 휠을_돌린_뒤_등록해도_바닥_휠_경계_근처_항목이_먼저_만료되지_않음() {
+        wheel.schedule(10_000L, t0 + 100 * HOUR); // 상위 휠을 미리 만들어 둠
+        long now = t0 + 5 * HOUR + 17 * MINUTE;
+        wheel.advance(now);
+
+        List<Long> ids = new ArrayList<>();
+        for (long i = 0; i < 200; i++) {
+            wheel.schedule(i, now + 60 * MINUTE + i * MINUTE);
+        }
+        assertThat(wheel.pending()).isZero();
+
+        wheel.advance(now + 60 * MINUTE);
+        assertThat(wheel.poll(500)).isEmpty();
+
+        wheel.advance(now + 260 * MINUTE + 1);
+        ids.addAll(wheel.poll(500));
+        assertThat(ids).hasSize(200).doesNotContain(10_000L);
+    }
+
+    @Test
+    void 취소하거나_교체한_항목은_만료되지_않음() {
+        wheel.schedule(1L, t0 + 5 * MINUTE);
+        wheel.schedule(2L, t0 + 5 * MINUTE);
+        wheel.cancel(1L);
+        wheel.schedule(2L, t0 + 3 * HOUR); // 교체
+
+        wheel.advance(t0 + 10 * MINUTE);
+        assertThat(wheel.poll(10)).isEmpty();
+
+        wheel.advance(t0 + 3 * HOUR + MINUTE);
+        assertThat(wheel.poll(10)).containsExactly(2L);
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,82 @@
+package com.toy.subkeeper.service;
+
+import com.toy.subkeeper.DTO.AssignmentDto;
+import com.toy.subkeeper.DTO.SemesterDto;
+import com.toy.subkeeper.DTO.SubjectDto;
+import com.toy.subkeeper.domain.User;
+import com.toy.subkeeper.metrics.SqlStats;
+import com.toy.subkeeper.repository.UserRepo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 과제 일괄 생성이 JDBC batch 로 나가는지 (DB 왕복 수가 과제 수에 비례하지 않음)
+ * SqlStats 는 executeBatch 한 번을 한 문장으로 셈
+ */
+@SpringBootTest
+class AssignmentBatchInsertTest {
+    private static final long DAY = 24L * 60 * 60 * 1000;
+
+    @Autowired AssignmentService assignmentService;
+    @Autowired SemesterService semesterService;
+    @Autowired SubjectService subjectService;
+    @Autowired UserRepo userRepo;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired Environment environment;
+
+    @Test
+    void 기본_batch_설정이_테스트_컨텍스트에도_적용됨() {
+        assertThat(environment.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size", Integer.class)).isEqualTo(50);
+        assertThat(environment.getProperty("spring.jpa.properties.hibernate.order_inserts", Boolean.class)).isTrue();
+    }
+
+    @Test
+    void 과제_200개를_넣어도_왕복은_batch_단위() {
+        Long subId = seedSubject();
+        int small = countImport(subId, 50);
+        int large = countImport(subId, 200);
+
+        // insert 50개 batch 하나 + 시퀀스 50개 단위 조회 하나가 150개 늘 때마다 3번씩
+        assertThat(large - small).isLessThanOrEqualTo(6);
+        // 과목 조회, revision, 시퀀스 4~5번, insert batch 4번, 통계 upsert, 달력 기록
+        assertThat(large).isLessThan(20);
+
+        Integer stored = jdbcTemplate.queryForObject("select count(*) from assignment where sub_id = ?", Integer.class, subId);
+        assertThat(stored).isEqualTo(250);
+    }
+
+    private int countImport(Long subId, int count) {
+        // 마감일, 카테고리가 같으면 통계 칸도 하나라 upsert 수가 과제 수와 상관없음
+        Date due = new Date(System.currentTimeMillis() + 10 * DAY);
+        List<AssignmentDto.AssignmentCreateReqDto> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(AssignmentDto.AssignmentCreateReqDto.builder()
+                    .assignName("assignment" + i)
+                    .dueDate(due)
+                    .category(0)
+                    .build());
+        }
+
+        SqlStats.begin();
+        assignmentService.createAssignments(subId, items);
+        return SqlStats.end().getCount();
+    }
+
+    private Long seedSubject() {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        Long userId = userRepo.save(new User(tag + "@test.local", "user-" + tag)).getId();
+        Long semId = semesterService.createSemester(userId,
+                SemesterDto.SemesterCreateReqDto.builder().semName("2025-" + tag).build()).getId();
+        return subjectService.createSubject(semId, SubjectDto.SubjectCreateReqDto.builder().subName("A").build()).getId();
+    }
+}
@@ -0,0 +1,118 @@
+package com.toy.subkeeper.service;
+
+import com.toy.subkeeper.DTO.AssignmentDto;
+import com.toy.subkeeper.DTO.SemesterDto;
+import com.toy.subkeeper.DTO.SubjectDto;
+import com.toy.subkeeper.domain.Assignment;
+import com.toy.subkeeper.domain.User;
+import com.toy.subkeeper.repository.UserRepo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 완료 상태 일괄 변경 (PATCH /assignment/complete)
+ * 상태별로 묶은 UPDATE, 바뀌지 않는 과제 건너뛰기, 없는 과제 보고, 통계 카운터 반영
+ */
+@SpringBootTest
+class AssignmentBulkStateTest {
+    private static final long HOUR = 60L * 60 * 1000;
+    private static final long DAY = 24 * HOUR;
+
+    @Autowired AssignmentService assignmentService;
+    @Autowired AssignmentStatService assignmentStatService;
+    @Autowired SemesterService semesterService;
+    @Autowired SubjectService subjectService;
+    @Autowired UserRepo userRepo;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 섞인_목록을_한_번에_바꿈() {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        Long userId = userRepo.save(new User(tag + "@test.local", "user-" + tag)).getId();
+        Long semId = semesterService.createSemester(userId,
+                SemesterDto.SemesterCreateReqDto.builder().semName("2025-" + tag).build()).getId();
+        Long subA = subjectService.createSubject(semId, SubjectDto.SubjectCreateReqDto.builder().subName("A").build()).getId();
+        Long subB = subjectService.createSubject(semId, SubjectDto.SubjectCreateReqDto.builder().subName("B").build()).getId();
+
+        Assignment later = create(subA, "later", 10 * DAY);            // 0 -> 1
+        Assignment dueSoon = create(subA, "dueSoon", HOUR);            // 2, 0 요청이면 그대로 2 (변경 없음)
+        Assignment doneLater = create(subB, "doneLater", 10 * DAY);    // 1 -> 0
+        Assignment doneDueSoon = create(subB, "doneDueSoon", HOUR);    // 1 -> 0 요청이지만 임박이라 2
+        Assignment untouched = create(subB, "untouched", 10 * DAY);    // 0, 0 요청 (변경 없음)
+        assignmentService.updateCompleteState(doneLater.getId(), 1);
+        assignmentService.updateCompleteState(doneDueSoon.getId(), 1);
+        assertThat(assignmentStatService.getStats(semId).getCompleted()).isEqualTo(2);
+        long missing = Long.MAX_VALUE;
+
+        AssignmentDto.AssignmentBulkStateUpdateResDto res = assignmentService.updateCompleteStates(List.of(
+                item(later.getId(), 0),
+                item(dueSoon.getId(), 0),
+                item(doneLater.getId(), 0),
+                item(missing, 1),
+                item(doneDueSoon.getId(), 0),
+                item(untouched.getId(), 0),
+                item(later.getId(), 1))); // 같은 과제는 마지막 요청 기준
+
+        assertThat(res.getNotFound()).containsExactly(missing);
+        Map<Long, Integer> returned = res.getUpdated().stream().collect(Collectors.toMap(
+                AssignmentDto.AssignmentStateUpdateResDto::getAssignId, AssignmentDto.AssignmentStateUpdateResDto::getIsComplete));
+        assertThat(returned).containsOnly(
+                Map.entry(later.getId(), 1),
+                Map.entry(dueSoon.getId(), 2),
+                Map.entry(doneLater.getId(), 0),
+                Map.entry(doneDueSoon.getId(), 2),
+                Map.entry(untouched.getId(), 0));
+
+        assertThat(storedState(later)).isEqualTo(1);
+        assertThat(storedState(dueSoon)).isEqualTo(2);
+        assertThat(storedState(doneLater)).isZero();
+        assertThat(storedState(doneDueSoon)).isEqualTo(2);
+        assertThat(storedState(untouched)).isZero();
+
+        // 완료 수 : A 는 later 하나, B 는 모두 미완료
+        assertThat(completed(subA)).isEqualTo(1);
+        assertThat(completed(subB)).isZero();
+        assertThat(assignmentStatService.getStats(semId).getCompleted()).isEqualTo(1);
+        assertThat(assignmentStatService.getStats(semId).getTotal()).isEqualTo(5);
+    }
+
+    @Test
+    void 빈_목록과_id_없는_항목은_거절() {
+        assertThatThrownBy(() -> assignmentService.updateCompleteStates(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> assignmentService.updateCompleteStates(List.of(item(null, 1))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Assignment create(Long subId, String name, long dueIn) {
+        return assignmentService.createAssignment(subId, AssignmentDto.AssignmentCreateReqDto.builder()
+                .assignName(name)
+                .dueDate(new Date(System.currentTimeMillis() + dueIn))
+                .category(0)
+                .build());
+    }
+
+    private static AssignmentDto.AssignmentStateUpdateItem item(Long assignId, int isComplete) {
+        return AssignmentDto.AssignmentStateUpdateItem.builder().assignId(assignId).isComplete(isComplete).build();
+    }
+
+    private int storedState(Assignment a) {
+        return jdbcTemplate.queryForObject("select is_complete from assignment where id = ?", Integer.class, a.getId());
+    }
+
+    private int completed(Long subId) {
+        Integer sum = jdbcTemplate.queryForObject("select coalesce(sum(completed), 0) from assignment_stat where sub_id = ?", Integer.class, subId);
+        return sum == null ? 0 : sum;
+    }
+}
@@ -0,0 +1,160 @@
+package com.toy.subkeeper.service;
+
+import com.toy.subkeeper.DTO.AssignmentDto;
+import com.toy.subkeeper.DTO.SemesterDto;
+import com.toy.subkeeper.DTO.StatsDto;
+import com.toy.subkeeper.DTO.SubjectDto;
+import com.toy.subkeeper.domain.Assignment;
+import com.toy.subkeeper.domain.User;
+import com.toy.subkeeper.repository.UserRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쓰기 경로마다 통계 카운터(assignment_stat)가 과제 테이블과 같은 값을 유지하는지, 재계산이 어긋난 값을 맞추는지
+ */
+@SpringBootTest
+class AssignmentStatServiceTest {
+    private static final long DAY = 24L * 60 * 60 * 1000;
+
+    @Autowired AssignmentStatService assignmentStatService;
+    @Autowired AssignmentService assignmentService;
+    @Autowired SemesterService semesterService;
+    @Autowired SubjectService subjectService;
+    @Autowired UserRepo userRepo;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private Long semId;
+    private Long subA;
+    private Long subB;
+
+    @BeforeEach
+    void seed() {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        Long userId = userRepo.save(new User(tag + "@test.local", "user-" + tag)).getId();
+        semId = semesterService.createSemester(userId,
+                SemesterDto.SemesterCreateReqDto.builder().semName("2025-" + tag).build()).getId();
+        subA = subjectService.createSubject(semId, SubjectDto.SubjectCreateReqDto.builder().subName("A").build()).getId();
+        subB = subjectService.createSubject(semId, SubjectDto.SubjectCreateReqDto.builder().subName("B").build()).getId();
+    }
+
+    @Test
+    void 생성하면_과목과_카테고리_칸이_늘어남() {
+        assignmentService.createAssignment(subA, create("a1", 3, 0));
+        assignmentService.createAssignments(null, List.of(
+                create("a2", 4, 1, subA),
+                create("b1", 5, 1, subB)));
+
+        StatsDto.SemesterStats stats = assignmentStatService.getStats(semId);
+        assertThat(stats.getTotal()).isEqualTo(3);
+        assertThat(subject(stats, subA).getTotal()).isEqualTo(2);
+        assertThat(subject(stats, subB).getTotal()).isEqualTo(1);
+        assertThat(stats.getCategories().get(1).getTotal()).isEqualTo(2);
+        assertMatchesReconcile();
+    }
+
+    @Test
+    void 과목을_옮기면_이전_과목에서_빠지고_새_과목에_더해짐() {
+        Assignment a = assignmentService.createAssignment(subA, create("a1", 3, 0));
+        assignmentService.updateCompleteState(a.getId(), 1);
+
+        assignmentService.updateAssignment(a.getId(), AssignmentDto.AssignmentUpdateReqDto.builder()
+                .assignName("a1").dueDate(a.getDueDate()).category(2).subId(subB).build());
+
+        StatsDto.SemesterStats stats = assignmentStatService.getStats(semId);
+        assertThat(subject(stats, subA).getTotal()).isZero();
+        assertThat(subject(stats, subB).getTotal()).isEqualTo(1);
+        assertThat(subject(stats, subB).getCompleted()).isEqualTo(1);
+        assertThat(stats.getCategories().get(0).getTotal()).isZero();
+        assertThat(stats.getCategories().get(2).getTotal()).isEqualTo(1);
+        assertMatchesReconcile();
+    }
+
+    @Test
+    void 완료_상태를_바꾸면_완료_수만_바뀜() {
+        Assignment a1 = assignmentService.createAssignment(subA, create("a1", 3, 0));
+        Assignment a2 = assignmentService.createAssignment(subB, create("b1", 4, 0));
+
+        assignmentService.updateCompleteState(a1.getId(), 1);
+        assignmentService.updateCompleteStates(List.of(
+                AssignmentDto.AssignmentStateUpdateItem.builder().assignId(a1.getId()).isComplete(0).build(),
+                AssignmentDto.AssignmentStateUpdateItem.builder().assignId(a2.getId()).isComplete(1).build()));
+
+        StatsDto.SemesterStats stats = assignmentStatService.getStats(semId);
+        assertThat(stats.getTotal()).isEqualTo(2);
+        assertThat(stats.getCompleted()).isEqualTo(1);
+        assertThat(subject(stats, subA).getCompleted()).isZero();
+        assertThat(subject(stats, subB).getCompleted()).isEqualTo(1);
+        assertMatchesReconcile();
+    }
+
+    @Test
+    void 삭제하면_칸이_줄어듦() {
+        Assignment a1 = assignmentService.createAssignment(subA, create("a1", 3, 0));
+        assignmentService.createAssignment(subA, create("a2", 3, 0));
+        assignmentService.updateCompleteState(a1.getId(), 1);
+
+        assignmentService.deleteAssignment(a1.getId());
+
+        StatsDto.SemesterStats stats = assignmentStatService.getStats(semId);
+        assertThat(stats.getTotal()).isEqualTo(1);
+        assertThat(stats.getCompleted()).isZero();
+        assertMatchesReconcile();
+    }
+
+    @Test
+    void 재계산은_어긋난_카운터를_과제_테이블_기준으로_맞춤() {
+        assignmentService.createAssignment(subA, create("a1", -2, 0));
+        Assignment a2 = assignmentService.createAssignment(subB, create("b1", 6, 1));
+        assignmentService.updateCompleteState(a2.getId(), 1);
+        StatsDto.SemesterStats expected = assignmentStatService.getStats(semId);
+
+        jdbcTemplate.update("update assignment_stat set total = total + 5, completed = 0 where sem_id = ?", semId);
+        jdbcTemplate.update("insert into assignment_stat (sub_id, category, due_day, sem_id, total, completed) values (?, 2, 1, ?, 7, 7)", subA, semId);
+        assertThat(assignmentStatService.getStats(semId).getTotal()).isNotEqualTo(expected.getTotal());
+
+        assignmentStatService.reconcileAll();
+
+        StatsDto.SemesterStats stats = assignmentStatService.getStats(semId);
+        assertThat(stats.getTotal()).isEqualTo(2);
+        assertThat(stats.getCompleted()).isEqualTo(1);
+        assertThat(stats.getOverdue()).isEqualTo(1);
+        assertThat(stats).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    // 증감으로 유지한 값이 처음부터 다시 센 값과 같아야 함
+    private void assertMatchesReconcile() {
+        StatsDto.SemesterStats incremental = assignmentStatService.getStats(semId);
+        assignmentStatService.reconcileAll();
+        assertThat(assignmentStatService.getStats(semId)).usingRecursiveComparison().isEqualTo(incremental);
+    }
+
+    private static StatsDto.SubjectStat subject(StatsDto.SemesterStats stats, Long subId) {
+        return stats.getSubjects().stream()
+                .filter(s -> s.getSubId().equals(subId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static AssignmentDto.AssignmentCreateReqDto create(String name, int daysFromNow, int category) {
+        return create(name, daysFromNow, category, null);
+    }
+
+    private static AssignmentDto.AssignmentCreateReqDto create(String name, int daysFromNow, int category, Long subId) {
+        return AssignmentDto.AssignmentCreateReqDto.builder()
+                .assignName(name)
+                .dueDate(new Date(System.currentTimeMillis() + daysFromNow * DAY))
+                .category(category)
+                .subId(subId)
+                .build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.toy.subkeeper.service;
+
+import com.toy.subkeeper.DTO.AssignmentDto;
+import com.toy.subkeeper.DTO.CalendarDto;
+import com.toy.subkeeper.DTO.SemesterDto;
+import com.toy.subkeeper.DTO.SubjectDto;
+import com.toy.subkeeper.domain.Assignment;
+import com.toy.subkeeper.domain.User;
+import com.toy.subkeeper.repository.UserRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 달력 증분 동기화, 토큰 이후의 변경 기록을 과제별로 합친 결과
+ */
+@SpringBootTest
+class CalendarDeltaTest {
+    private static final long DAY = 24L * 60 * 60 * 1000;
+
+    @Autowired SemesterService semesterService;
+    @Autowired SubjectService subjectService;
+    @Autowired AssignmentService assignmentService;
+    @Autowired CalendarChangeService calendarChangeService;
+    @Autowired UserRepo userRepo;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private Long semId;
+    private Long subId;
+
+    @BeforeEach
+    void seed() {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        userId = userRepo.save(new User(tag + "@test.local", "user-" + tag)).getId();
+        semId = createSemester("2025-" + tag);
+        subId = subjectService.createSubject(semId, SubjectDto.SubjectCreateReqDto.builder().subName("A").build()).getId();
+    }
+
+    @Test
+    void 토큰_이후에_생겼다가_지워진_과제는_내려가지_않음() {
+        long since = latestToken();
+        Assignment a = create("temp");
+        assignmentService.deleteAssignment(a.getId());
+
+        CalendarDto.CalendarDelta delta = semesterService.getCalendarDelta(semId, since);
+
+        assertThat(delta.isFull()).isFalse();
+        assertThat(delta.getCreated()).isEmpty();
+        assertThat(delta.getUpdated()).isEmpty();
+        assertThat(delta.getDeleted()).isEmpty();
+    }
+
+    @Test
+    void 토큰_이후에_생기고_수정된_과제는_생성으로_최신_내용과_함께() {
+        long since = latestToken();
+        Assignment a = create("before");
+        assignmentService.updateAssignment(a.getId(), AssignmentDto.AssignmentUpdateReqDto.builder()
+                .assignName("after").dueDate(a.getDueDate()).category(1).build());
+
+        CalendarDto.CalendarDelta delta = semesterService.getCalendarDelta(semId, since);
+
+        assertThat(delta.getCreated()).extracting(CalendarDto.CalendarItem::getAssignId).containsExactly(a.getId());
+        assertThat(delta.getCreated().get(0).getAssignName()).isEqualTo("after");
+        assertThat(delta.getCreated().get(0).getCategory()).isEqualTo(1);
+        assertThat(delta.getUpdated()).isEmpty();
+        assertThat(delta.getDeleted()).isEmpty();
+    }
+
+    @Test
+    void 토큰_이전에_있던_과제는_수정_삭제_다른_학기로_이동으로() {
+        Assignment kept = create("kept");
+        Assignment removed = create("removed");
+        Assignment moved = create("moved");
+        long since = latestToken();
+
+        assignmentService.updateAssignment(kept.getId(), AssignmentDto.AssignmentUpdateReqDto.builder()
+                .assignName("kept2").dueDate(kept.getDueDate()).category(0).build());
+        assignmentService.deleteAssignment(removed.getId());
+        Long otherSemId = createSemester("other-" + semId);
+        Long otherSubId = subjectService.createSubject(otherSemId, SubjectDto.SubjectCreateReqDto.builder().subName("B").build()).getId();
+        assignmentService.updateAssignment(moved.getId(), AssignmentDto.AssignmentUpdateReqDto.builder()
+                .assignName("moved").dueDate(moved.getDueDate()).category(0).subId(otherSubId).build());
+
+        CalendarDto.CalendarDelta delta = semesterService.getCalendarDelta(semId, since);
+        assertThat(delta.getCreated()).isEmpty();
+        assertThat(delta.getUpdated()).extracting(CalendarDto.CalendarItem::getAssignName).containsExactly("kept2");
+        assertThat(delta.getDeleted()).containsExactlyInAnyOrder(removed.getId(), moved.getId());
+
+        // 옮겨간 학기에서는 생성
+        CalendarDto.CalendarDelta other = semesterService.getCalendarDelta(otherSemId, since);
+        assertThat(other.getCreated()).extracting(CalendarDto.CalendarItem::getAssignId).containsExactly(moved.getId());
+    }
+
+    @Test
+    void 같은_토큰으로_다시_받아도_결과가_같음() {
+        long since = latestToken();
+        Assignment a = create("a");
+
+        CalendarDto.CalendarDelta first = semesterService.getCalendarDelta(semId, since);
+        CalendarDto.CalendarDelta second = semesterService.getCalendarDelta(semId, since);
+
+        assertThat(first.getCreated()).extracting(CalendarDto.CalendarItem::getAssignId).containsExactly(a.getId());
+        assertThat(second.getCreated()).extracting(CalendarDto.CalendarItem::getAssignId).containsExactly(a.getId());
+        assertThat(second.getSyncToken()).isGreaterThanOrEqualTo(since);
+    }
+
+    @Test
+    void 토큰이_없거나_정리된_기록_이전이면_전체_목록() {
+        Assignment a = create("a");
+
+        CalendarDto.CalendarDelta noToken = semesterService.getCalendarDelta(semId, null);
+        assertThat(noToken.isFull()).isTrue();
+        assertThat(noToken.getItems()).extracting(CalendarDto.CalendarItem::getAssignId).containsExactly(a.getId());
+
+        long since = latestToken();
+        create("b");
+        create("c");
+        // 보관 기간이 지난 것으로 만들고 정리 (가장 최근 기록 하나는 남김)
+        jdbcTemplate.update("update calendar_change set changed_at = ?", new Date(System.currentTimeMillis() - 30 * DAY));
+        assertThat(calendarChangeService.compact()).isPositive();
+
+        CalendarDto.CalendarDelta compacted = semesterService.getCalendarDelta(semId, since);
+        assertThat(compacted.isFull()).isTrue();
+        assertThat(compacted.getItems()).hasSize(3);
+        assertThat(compacted.getCreated()).isNull();
+    }
+
+    private Long createSemester(String name) {
+        return semesterService.createSemester(userId, SemesterDto.SemesterCreateReqDto.builder().semName(name).build()).getId();
+    }
+
+    private Assignment create(String name) {
+        return assignmentService.createAssignment(subId, AssignmentDto.AssignmentCreateReqDto.builder()
+                .assignName(name)
+                .dueDate(new Date(System.currentTimeMillis() + 3 * DAY))
+                .category(0)
+                .build());
+    }
+
+    // 지금까지의 기록을 모두 받은 토큰 (settle-millis 를 기다리지 않도록 직접 읽음)
+    private long latestToken() {
+        Long latest = jdbcTemplate.queryForObject("select max(id) from calendar_change", Long.class);
+        return latest == null ? 0L : latest;
+    }
+}
@@ -0,0 +1,130 @@
+package com.toy.subkeeper.service;
+
+import com.toy.subkeeper.DTO.AssignmentDto;
+import com.toy.subkeeper.DTO.CalendarDto;
+import com.toy.subkeeper.DTO.SemesterDto;
+import com.toy.subkeeper.DTO.SubjectDto;
+import com.toy.subkeeper.domain.Assignment;
+import com.toy.subkeeper.domain.User;
+import com.toy.subkeeper.repository.UserRepo;
+import com.toy.subkeeper.util.KstTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 달력 기간 조회의 (dueDate, id) keyset 페이지
+ * 같은 마감 시각의 과제가 페이지 경계에 걸려도 빠지거나 겹치지 않는지, 마지막 페이지에서 nextCursor 가 없는지
+ */
+@SpringBootTest
+class CalendarPageTest {
+    private static final long HOUR = 60L * 60 * 1000;
+    private static final LocalDate FROM = LocalDate.of(2030, 3, 2);
+    private static final LocalDate TO = LocalDate.of(2030, 3, 9);
+
+    @Autowired SemesterService semesterService;
+    @Autowired SubjectService subjectService;
+    @Autowired AssignmentService assignmentService;
+    @Autowired UserRepo userRepo;
+
+    private Long semId;
+    private List<Long> expected; // 기간 안의 과제, (dueDate, id) 순
+
+    @BeforeEach
+    void seed() {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        Long userId = userRepo.save(new User(tag + "@test.local", "user-" + tag)).getId();
+        semId = semesterService.createSemester(userId,
+                SemesterDto.SemesterCreateReqDto.builder().semName("2030-" + tag).build()).getId();
+        Long subA = subjectService.createSubject(semId, SubjectDto.SubjectCreateReqDto.builder().subName("A").build()).getId();
+        Long subB = subjectService.createSubject(semId, SubjectDto.SubjectCreateReqDto.builder().subName("B").build()).getId();
+
+        long from = KstTime.startOfDay(FROM);
+        long to = KstTime.startOfDay(TO);
+        long sameDue = from + 24 * HOUR + 9 * HOUR; // 같은 마감 시각이 여러 개
+
+        List<AssignmentDto.AssignmentCreateReqDto> items = new ArrayList<>();
+        items.add(item("before", from - 1, subA));   // 기간 밖
+        items.add(item("from", from, subB));         // 시작 시각은 포함
+        for (int i = 0; i < 7; i++) {
+            items.add(item("same" + i, sameDue, i % 2 == 0 ? subA : subB));
+        }
+        items.add(item("later", sameDue + HOUR, subA));
+        items.add(item("last", to - 1, subB));
+        items.add(item("to", to, subA));             // 끝 시각은 제외
+
+        List<Assignment> created = assignmentService.createAssignments(null, items);
+        expected = created.stream()
+                .filter(a -> a.getDueDate().getTime() >= from && a.getDueDate().getTime() < to)
+                .sorted(Comparator.comparing((Assignment a) -> a.getDueDate().getTime()).thenComparing(Assignment::getId))
+                .map(Assignment::getId)
+                .toList();
+    }
+
+    @Test
+    void 같은_마감_시각이_페이지_경계에_걸려도_빠짐없이_한_번씩() {
+        assertThat(expected).hasSize(10);
+        for (int size = 1; size <= 11; size++) {
+            assertThat(pageThrough(size)).as("size %d", size).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void 남은_항목이_페이지_크기와_같으면_다음_페이지가_없음() {
+        CalendarDto.CalendarItemList exact = semesterService.getCalendarItems(semId, FROM, TO, null, expected.size());
+        assertThat(exact.getItems()).hasSize(expected.size());
+        assertThat(exact.getNextCursor()).isNull();
+
+        CalendarDto.CalendarItemList oneShort = semesterService.getCalendarItems(semId, FROM, TO, null, expected.size() - 1);
+        assertThat(oneShort.getNextCursor()).isNotNull();
+        CalendarDto.CalendarItemList rest = semesterService.getCalendarItems(semId, FROM, TO, oneShort.getNextCursor(), expected.size() - 1);
+        assertThat(rest.getItems()).extracting(CalendarDto.CalendarItem::getAssignId).containsExactly(expected.get(expected.size() - 1));
+        assertThat(rest.getNextCursor()).isNull();
+    }
+
+    @Test
+    void 잘못된_cursor_와_기간은_거절() {
+        for (String cursor : List.of("abc", "123", "123_x", "_5")) {
+            assertThatThrownBy(() -> semesterService.getCalendarItems(semId, FROM, TO, cursor, 3))
+                    .as(cursor)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThatThrownBy(() -> semesterService.getCalendarItems(semId, TO, FROM, null, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> semesterService.getCalendarItems(semId, FROM, null, null, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Long> pageThrough(int size) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        for (int page = 0; page <= expected.size(); page++) {
+            CalendarDto.CalendarItemList list = semesterService.getCalendarItems(semId, FROM, TO, cursor, size);
+            assertThat(list.getItems().size()).isLessThanOrEqualTo(size);
+            list.getItems().forEach(item -> ids.add(item.getAssignId()));
+            cursor = list.getNextCursor();
+            if (cursor == null) return ids;
+        }
+        throw new AssertionError("nextCursor 가 끝나지 않음 : " + ids);
+    }
+
+    private static AssignmentDto.AssignmentCreateReqDto item(String name, long due, Long subId) {
+        return AssignmentDto.AssignmentCreateReqDto.builder()
+                .assignName(name)
+                .dueDate(new Date(due))
+                .category(0)
+                .subId(subId)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.toy.subkeeper.service;
+
+import com.toy.subkeeper.DTO.AssignmentDto;
+import com.toy.subkeeper.DTO.DashboardDto;
+import com.toy.subkeeper.DTO.SemesterDto;
+import com.toy.subkeeper.DTO.SubjectDto;
+import com.toy.subkeeper.cache.DashboardCache;
+import com.toy.subkeeper.domain.User;
+import com.toy.subkeeper.metrics.SqlStats;
+import com.toy.subkeeper.repository.UserRepo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대시보드 조회의 SQL 수가 과목/과제 수와 상관없이 고정인지 (N+1 회귀 방지)
+ * 학기 목록, 사이드바 배지, 과목, 과제 네 번
+ */
+@SpringBootTest
+class DashboardQueryCountTest {
+    private static final long DAY = 24L * 60 * 60 * 1000;
+
+    @Autowired SemesterService semesterService;
+    @Autowired SubjectService subjectService;
+    @Autowired AssignmentService assignmentService;
+    @Autowired UserRepo userRepo;
+    @Autowired DashboardCache dashboardCache;
+
+    @Test
+    void 과제_수와_상관없이_조회_수가_같음() {
+        Long small = seedUser(1, 1, 1);
+        Long large = seedUser(3, 5, 30);
+
+        assertThat(countDashboardQueries(small, null, null)).isEqualTo(4);
+        assertThat(countDashboardQueries(large, null, null)).isEqualTo(4);
+    }
+
+    @Test
+    void 필터를_걸어도_조회_수가_같음() {
+        Long userId = seedUser(2, 4, 20);
+        DashboardDto.DashboardViewDto view = semesterService.getDashboardView(userId, null, null, null);
+        Long subId = view.getDashboard().getSubjectList().get(0).getSubId();
+
+        assertThat(countDashboardQueries(userId, subId, null)).isEqualTo(4);
+        assertThat(countDashboardQueries(userId, null, List.of(0, 2))).isEqualTo(4);
+        assertThat(countDashboardQueries(userId, subId, List.of(1))).isEqualTo(4);
+    }
+
+    @Test
+    void 캐시에_있으면_조회하지_않음() {
+        Long userId = seedUser(1, 2, 5);
+        countDashboardQueries(userId, null, null);
+
+        SqlStats.begin();
+        semesterService.getDashboardView(userId, null, null, null);
+        assertThat(SqlStats.end().getCount()).isZero();
+    }
+
+    private int countDashboardQueries(Long userId, Long subId, List<Integer> categories) {
+        dashboardCache.evictAll();
+        SqlStats.begin();
+        semesterService.getDashboardView(userId, null, subId, categories);
+        return SqlStats.end().getCount();
+    }
+
+    private Long seedUser(int semesters, int subjectsPerSemester, int assignmentsPerSubject) {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        Long userId = userRepo.save(new User(tag + "@test.local", "user-" + tag)).getId();
+        long now = System.currentTimeMillis();
+
+        for (int s = 0; s < semesters; s++) {
+            Long semId = semesterService.createSemester(userId,
+                    SemesterDto.SemesterCreateReqDto.builder().semName("2025-" + (s + 1)).build()).getId();
+            for (int j = 0; j < subjectsPerSemester; j++) {
+                Long subId = subjectService.createSubject(semId,
+                        SubjectDto.SubjectCreateReqDto.builder().subName("subject" + j).build()).getId();
+
+                List<AssignmentDto.AssignmentCreateReqDto> items = new ArrayList<>();
+                for (int k = 0; k < assignmentsPerSubject; k++) {
+                    items.add(AssignmentDto.AssignmentCreateReqDto.builder()
+                            .assignName("assignment" + k)
+                            .dueDate(new Date(now + (k - assignmentsPerSubject / 3) * DAY))
+                            .category(k % 3)
+                            .build());
+                }
+                assignmentService.createAssignments(subId, items);
+            }
+        }
+        return userId;
+    }
+}